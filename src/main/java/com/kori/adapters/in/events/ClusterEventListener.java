@@ -0,0 +1,202 @@
+package com.kori.adapters.in.events;
+
+import com.kori.adapters.out.events.ClusterEventCodec;
+import com.kori.application.events.AccountProfileStatusChangedEvent;
+import com.kori.application.events.AgentStatusChangedEvent;
+import com.kori.application.events.ClientStatusChangedEvent;
+import com.kori.application.events.ConfigUpdatedEvent;
+import com.kori.application.events.DomainEvent;
+import com.kori.application.events.MerchantStatusChangedEvent;
+import com.kori.application.handler.OnConfigUpdatedHandler;
+import com.kori.application.handler.OnStatusChangedCacheHandler;
+import com.kori.application.port.out.AccountStatusPort;
+import com.kori.application.port.out.ConfigCachePort;
+import com.kori.domain.model.config.ConfigType;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Écoute (LISTEN) les événements diffusés par les autres instances et les rejoue localement
+ * sur les handlers de cache uniquement : les handlers de propagation (cascade des statuts vers les profils)
+ * ont déjà tourné sur l'instance d'origine.
+ * Connexion dédiée hors pool, en session (pas de PgBouncer en mode transaction) ; après une (re)connexion,
+ * des notifications ont pu être perdues, tous les caches concernés sont donc invalidés.
+ */
+@Component
+@ConditionalOnProperty(name = "kori.cluster-events.enabled", havingValue = "true")
+public class ClusterEventListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterEventListener.class);
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final OnConfigUpdatedHandler configHandler;
+    private final OnStatusChangedCacheHandler statusHandler;
+    private final ConfigCachePort configCachePort;
+    private final AccountStatusPort accountStatusPort;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile Connection connection;
+
+    public ClusterEventListener(
+            OnConfigUpdatedHandler configHandler,
+            OnStatusChangedCacheHandler statusHandler,
+            ConfigCachePort configCachePort,
+            AccountStatusPort accountStatusPort,
+            @Value("${kori.cluster-events.url:${spring.datasource.url}}") String url,
+            @Value("${kori.cluster-events.username:${spring.datasource.username}}") String username,
+            @Value("${kori.cluster-events.password:${spring.datasource.password}}") String password,
+            @Value("${kori.cluster-events.channel:kori_cache_events}") String channel,
+            @Value("${kori.cluster-events.poll-timeout-ms:1000}") int pollTimeoutMs,
+            @Value("${kori.cluster-events.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.configHandler = Objects.requireNonNull(configHandler);
+        this.statusHandler = Objects.requireNonNull(statusHandler);
+        this.configCachePort = Objects.requireNonNull(configCachePort);
+        this.accountStatusPort = Objects.requireNonNull(accountStatusPort);
+        this.url = Objects.requireNonNull(url, "url");
+        this.username = username;
+        this.password = password;
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cluster events channel: " + channel);
+        }
+        this.channel = channel;
+        if (pollTimeoutMs < 1 || reconnectDelayMs < 1) {
+            throw new IllegalArgumentException("pollTimeoutMs and reconnectDelayMs must be >= 1");
+        }
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "kori-cluster-events");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                listen();
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cluster event listener disconnected, retrying in {} ms: {}", reconnectDelayMs, e.getMessage());
+                }
+            } finally {
+                closeQuietly();
+            }
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen() throws SQLException {
+        Properties props = new Properties();
+        if (username != null) {
+            props.setProperty("user", username);
+        }
+        if (password != null) {
+            props.setProperty("password", password);
+        }
+        props.setProperty("ApplicationName", "kori-cluster-events");
+        Connection conn = DriverManager.getConnection(url, props);
+        connection = conn;
+        try (Statement statement = conn.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        }
+        invalidateAll();
+        log.info("Cluster event listener connected (channel {})", channel);
+
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(pollTimeoutMs);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                dispatch(notification.getParameter());
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            DomainEvent event = ClusterEventCodec.decode(payload);
+            if (event instanceof ConfigUpdatedEvent e) {
+                configHandler.handle(e);
+            } else if (event instanceof ClientStatusChangedEvent e) {
+                statusHandler.handle(e);
+            } else if (event instanceof MerchantStatusChangedEvent e) {
+                statusHandler.handle(e);
+            } else if (event instanceof AgentStatusChangedEvent e) {
+                statusHandler.handle(e);
+            } else if (event instanceof AccountProfileStatusChangedEvent e) {
+                statusHandler.handle(e);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring cluster event '{}': {}", payload, e.getMessage());
+        }
+    }
+
+    private void invalidateAll() {
+        for (ConfigType type : ConfigType.values()) {
+            configCachePort.invalidate(type);
+        }
+        accountStatusPort.evictAll();
+    }
+
+    private void closeQuietly() {
+        Connection conn = connection;
+        connection = null;
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException ignored) {
+                // connexion déjà perdue
+            }
+        }
+    }
+}
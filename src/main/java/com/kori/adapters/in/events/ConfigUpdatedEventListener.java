@@ -0,0 +1,28 @@
+package com.kori.adapters.in.events;
+
+import com.kori.application.events.ConfigUpdatedEvent;
+import com.kori.application.handler.OnConfigUpdatedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Listener Spring qui reçoit l'événement et délègue au handler applicatif.
+ * Après commit : un rechargement concurrent ne doit pas relire l'ancienne valeur.
+ */
+@Component
+public class ConfigUpdatedEventListener {
+
+    private final OnConfigUpdatedHandler handler;
+
+    public ConfigUpdatedEventListener(OnConfigUpdatedHandler handler) {
+        this.handler = Objects.requireNonNull(handler);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ConfigUpdatedEvent event) {
+        handler.handle(event);
+    }
+}
@@ -0,0 +1,46 @@
+package com.kori.adapters.in.events;
+
+import com.kori.application.events.AccountProfileStatusChangedEvent;
+import com.kori.application.events.AgentStatusChangedEvent;
+import com.kori.application.events.ClientStatusChangedEvent;
+import com.kori.application.events.MerchantStatusChangedEvent;
+import com.kori.application.handler.OnStatusChangedCacheHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Listener Spring qui reçoit les changements de statut et délègue au handler d'invalidation.
+ * Après commit : une autorisation concurrente ne doit pas remettre en cache l'ancien statut.
+ */
+@Component
+public class StatusChangedCacheEventListener {
+
+    private final OnStatusChangedCacheHandler handler;
+
+    public StatusChangedCacheEventListener(OnStatusChangedCacheHandler handler) {
+        this.handler = Objects.requireNonNull(handler);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ClientStatusChangedEvent event) {
+        handler.handle(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(MerchantStatusChangedEvent event) {
+        handler.handle(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(AgentStatusChangedEvent event) {
+        handler.handle(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(AccountProfileStatusChangedEvent event) {
+        handler.handle(event);
+    }
+}
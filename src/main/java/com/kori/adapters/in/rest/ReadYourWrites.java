@@ -0,0 +1,15 @@
+package com.kori.adapters.in.rest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Endpoint de lecture servi par le primaire, jamais par le replica :
+ * à poser quand l'appelant relit une écriture qu'il vient de faire (détail d'une transaction juste payée...).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadYourWrites {
+}
@@ -1,6 +1,7 @@
 package com.kori.adapters.in.rest.controller;
 
 import com.kori.adapters.in.rest.ApiPaths;
+import com.kori.adapters.in.rest.ReadYourWrites;
 import com.kori.adapters.in.rest.dto.AgentResponses;
 import com.kori.adapters.in.rest.dto.MeResponses;
 import com.kori.application.security.ActorContext;
@@ -63,6 +64,7 @@ public class AgentMeController {
         );
     }
 
+    @ReadYourWrites
     @GetMapping("/transactions/{transactionRef}")
     public MeResponses.TransactionDetailsResponse transactionDetails(ActorContext actorContext, @PathVariable String transactionRef) {
         var d = queryUseCase.getTransactionDetails(actorContext, transactionRef);
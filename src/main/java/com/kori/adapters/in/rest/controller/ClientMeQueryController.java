@@ -1,6 +1,7 @@
 package com.kori.adapters.in.rest.controller;
 
 import com.kori.adapters.in.rest.ApiPaths;
+import com.kori.adapters.in.rest.ReadYourWrites;
 import com.kori.adapters.in.rest.dto.MeResponses;
 import com.kori.application.security.ActorContext;
 import com.kori.query.model.me.MeQueryModels;
@@ -66,6 +67,7 @@ public class ClientMeQueryController {
         );
     }
 
+    @ReadYourWrites
     @GetMapping("/transactions/{transactionRef}")
     public MeResponses.TransactionDetailsResponse transactionDetails(
             ActorContext actorContext,
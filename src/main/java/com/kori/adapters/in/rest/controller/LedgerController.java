@@ -47,7 +47,12 @@ public class LedgerController {
     }
 
     @PostMapping("/transactions/search")
-    @Operation(summary = "Search transaction history")
+    @Operation(
+            summary = "Search transaction history",
+            description = "One item per transaction, newest first by the transaction's first entry on the account. "
+                    + "createdAt, from/to and the beforeCreatedAt/beforeTransactionId cursor use that entry time, "
+                    + "which can be later than the transaction's own creation (e.g. a payout seen from the bank account)."
+    )
     public TransactionHistoryResponse searchTransactions(
             ActorContext actorContext,
             @Valid @RequestBody SearchLedgerRequest request
@@ -1,6 +1,7 @@
 package com.kori.adapters.in.rest.controller;
 
 import com.kori.adapters.in.rest.ApiPaths;
+import com.kori.application.port.in.RecordTerminalHeartbeatUseCase;
 import com.kori.application.security.ActorContext;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,18 +13,27 @@ import java.util.Map;
 @RequestMapping(ApiPaths.TERMINAL_ME)
 public class TerminalMeQueryController {
 
+    private final RecordTerminalHeartbeatUseCase recordTerminalHeartbeatUseCase;
+
+    public TerminalMeQueryController(RecordTerminalHeartbeatUseCase recordTerminalHeartbeatUseCase) {
+        this.recordTerminalHeartbeatUseCase = recordTerminalHeartbeatUseCase;
+    }
+
     @GetMapping("/status")
     public Map<String, String> status(ActorContext actorContext) {
+        recordTerminalHeartbeatUseCase.execute(actorContext);
         return Map.of("terminalUid", actorContext.actorRef(), "status", "ACTIVE");
     }
 
     @GetMapping("/config")
     public Map<String, String> config(ActorContext actorContext) {
+        recordTerminalHeartbeatUseCase.execute(actorContext);
         return Map.of("terminalUid", actorContext.actorRef(), "mode", "STANDARD");
     }
 
     @GetMapping("/health")
     public Map<String, String> health(ActorContext actorContext) {
+        recordTerminalHeartbeatUseCase.execute(actorContext);
         return Map.of("terminalUid", actorContext.actorRef(), "health", "UP");
     }
 }
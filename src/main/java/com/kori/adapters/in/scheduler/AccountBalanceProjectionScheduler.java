@@ -0,0 +1,84 @@
+package com.kori.adapters.in.scheduler;
+
+import com.kori.application.port.out.AccountBalanceProjectionPort;
+import com.kori.application.port.out.AuditPort;
+import com.kori.application.port.out.TimeProviderPort;
+import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.model.audit.AuditEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Vérifie la projection account_balances contre les sommes brutes du ledger
+ * et, si activé, reconstruit les comptes divergents.
+ */
+@Component
+public class AccountBalanceProjectionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountBalanceProjectionScheduler.class);
+    private static final int SAMPLE_SIZE = 10;
+
+    private final AccountBalanceProjectionPort projectionPort;
+    private final AuditPort auditPort;
+    private final TimeProviderPort timeProviderPort;
+    private final boolean autoRepair;
+
+    public AccountBalanceProjectionScheduler(
+            AccountBalanceProjectionPort projectionPort,
+            AuditPort auditPort,
+            TimeProviderPort timeProviderPort,
+            @Value("${kori.ledger.balance-projection.auto-repair:false}") boolean autoRepair
+    ) {
+        this.projectionPort = Objects.requireNonNull(projectionPort, "projectionPort");
+        this.auditPort = Objects.requireNonNull(auditPort, "auditPort");
+        this.timeProviderPort = Objects.requireNonNull(timeProviderPort, "timeProviderPort");
+        this.autoRepair = autoRepair;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${kori.ledger.balance-projection.fixed-delay-ms:3600000}",
+            initialDelayString = "${kori.ledger.balance-projection.initial-delay-ms:120000}"
+    )
+    public void run() {
+        List<LedgerAccountRef> drifted = projectionPort.findDriftedAccounts();
+        if (drifted.isEmpty()) {
+            log.info("Balance projection check: no drift detected.");
+            return;
+        }
+
+        List<String> sample = drifted.stream()
+                .limit(SAMPLE_SIZE)
+                .map(a -> a.type().name() + ":" + a.ownerRef())
+                .toList();
+
+        log.warn(
+                "Balance projection check: {} account(s) drifted from ledger. Sample accounts: {}",
+                drifted.size(),
+                sample
+        );
+
+        if (autoRepair) {
+            drifted.forEach(projectionPort::rebuild);
+            log.info("Balance projection check: rebuilt {} account(s) from ledger entries.", drifted.size());
+        }
+
+        auditPort.publish(new AuditEvent(
+                "LEDGER_BALANCE_PROJECTION_DRIFT",
+                "SYSTEM",
+                "LEDGER",
+                timeProviderPort.now(),
+                Map.of(
+                        "count", Integer.toString(drifted.size()),
+                        "sampleAccounts", String.join(",", sample),
+                        "repaired", Boolean.toString(autoRepair)
+                )
+        ));
+    }
+}
@@ -0,0 +1,55 @@
+package com.kori.adapters.in.scheduler;
+
+import com.kori.application.port.out.AuditOutboxPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Relaie audit_outbox vers audit_events par lots.
+ * Enchaîne les lots tant qu'ils sont pleins, dans la limite de max-batches-per-run.
+ */
+@Component
+public class AuditOutboxRelayScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditOutboxRelayScheduler.class);
+
+    private final AuditOutboxPort auditOutboxPort;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public AuditOutboxRelayScheduler(
+            AuditOutboxPort auditOutboxPort,
+            @Value("${kori.audit.outbox.batch-size:500}") int batchSize,
+            @Value("${kori.audit.outbox.max-batches-per-run:20}") int maxBatchesPerRun
+    ) {
+        this.auditOutboxPort = Objects.requireNonNull(auditOutboxPort, "auditOutboxPort");
+        if (batchSize < 1 || maxBatchesPerRun < 1) {
+            throw new IllegalArgumentException("batchSize and maxBatchesPerRun must be >= 1");
+        }
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${kori.audit.outbox.flush-interval-ms:1000}",
+            initialDelayString = "${kori.audit.outbox.initial-delay-ms:5000}"
+    )
+    public void relay() {
+        long total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int moved = auditOutboxPort.relay(batchSize);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.debug("Audit outbox relay: moved {} event(s) to audit_events.", total);
+        }
+    }
+}
@@ -11,7 +11,14 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
+/**
+ * Purge de rétention par lots courts, avec pause entre lots et durée maximale par passage :
+ * un rattrapage après interruption s'étale sur plusieurs passages au lieu de saturer la base.
+ * Chaque passage journalise débit (lignes/s) et backlog restant par job.
+ */
 @Component
 public class DataRetentionScheduler {
 
@@ -20,15 +27,36 @@ public class DataRetentionScheduler {
     private final DataRetentionPort dataRetentionPort;
     private final TimeProviderPort timeProviderPort;
     private final Duration auditRetention;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Duration maxRuntime;
+
+    private final AtomicLong idempotencyDeletedTotal = new AtomicLong();
+    private final AtomicLong auditDeletedTotal = new AtomicLong();
 
     public DataRetentionScheduler(
             DataRetentionPort dataRetentionPort,
             TimeProviderPort timeProviderPort,
-            @Value("${kori.retention.audit-events:P90D}") Duration auditRetention
+            @Value("${kori.retention.audit-events:P90D}") Duration auditRetention,
+            @Value("${kori.retention.purge.batch-size:5000}") int batchSize,
+            @Value("${kori.retention.purge.batch-pause-ms:100}") long batchPauseMs,
+            @Value("${kori.retention.purge.max-runtime-ms:300000}") long maxRuntimeMs
     ) {
         this.dataRetentionPort = Objects.requireNonNull(dataRetentionPort, "dataRetentionPort");
         this.timeProviderPort = Objects.requireNonNull(timeProviderPort, "timeProviderPort");
         this.auditRetention = Objects.requireNonNull(auditRetention, "auditRetention");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be >= 1");
+        }
+        if (batchPauseMs < 0) {
+            throw new IllegalArgumentException("batchPauseMs must be >= 0");
+        }
+        if (maxRuntimeMs < 1) {
+            throw new IllegalArgumentException("maxRuntimeMs must be >= 1");
+        }
+        this.batchSize = batchSize;
+        this.batchPause = Duration.ofMillis(batchPauseMs);
+        this.maxRuntime = Duration.ofMillis(maxRuntimeMs);
     }
 
     @Scheduled(
@@ -36,16 +64,72 @@ public class DataRetentionScheduler {
             initialDelayString = "${kori.retention.purge.initial-delay-ms:60000}"
     )
     public void purge() {
+        long deadline = System.nanoTime() + maxRuntime.toNanos();
         Instant now = timeProviderPort.now();
-        long idempotencyDeleted = dataRetentionPort.purgeExpiredIdempotencyRecords(now);
+
+        runJob(
+                "idempotency_records",
+                idempotencyDeletedTotal,
+                dataRetentionPort.countExpiredIdempotencyRecords(now),
+                () -> dataRetentionPort.purgeExpiredIdempotencyBatch(now, batchSize),
+                deadline
+        );
+
         Instant auditCutoff = now.minus(auditRetention);
-        long auditDeleted = dataRetentionPort.purgeAuditEventsBefore(auditCutoff);
+        long dropped = dataRetentionPort.dropExpiredAuditPartitions(auditCutoff);
+        if (dropped > 0) {
+            auditDeletedTotal.addAndGet(dropped);
+            log.info("Data retention purge [audit_events]: dropped expired partitions (~{} row(s)) older than {}.", dropped, auditCutoff);
+        }
+        runJob(
+                "audit_events",
+                auditDeletedTotal,
+                dataRetentionPort.countAuditEventsBefore(auditCutoff),
+                () -> dataRetentionPort.purgeAuditEventsBatch(auditCutoff, batchSize),
+                deadline
+        );
+    }
+
+    private void runJob(String job, AtomicLong deletedTotal, long backlog, IntSupplier batch, long deadline) {
+        long started = System.nanoTime();
+        long deleted = 0;
+        int batches = 0;
+        boolean interrupted = false;
+
+        while (deleted < backlog && System.nanoTime() < deadline) {
+            int n = batch.getAsInt();
+            deleted += n;
+            batches++;
+            if (n < batchSize) {
+                break;
+            }
+            if (!batchPause.isZero()) {
+                try {
+                    Thread.sleep(batchPause.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupted = true;
+                    break;
+                }
+            }
+        }
+
+        double seconds = Math.max((System.nanoTime() - started) / 1e9, 1e-3);
+        long remaining = Math.max(backlog - deleted, 0);
+        deletedTotal.addAndGet(deleted);
 
+        if (deleted == 0 && remaining == 0) {
+            return;
+        }
         log.info(
-                "Data retention purge: deleted {} expired idempotency record(s), {} audit event(s) older than {}.",
-                idempotencyDeleted,
-                auditDeleted,
-                auditCutoff
+                "Data retention purge [{}]: deleted {} row(s) in {} batch(es), {} rows/s, backlog {}{} (total deleted since start: {}).",
+                job,
+                deleted,
+                batches,
+                Math.round(deleted / seconds),
+                remaining,
+                interrupted ? ", interrupted" : remaining > 0 ? ", resuming next run" : "",
+                deletedTotal.get()
         );
     }
 }
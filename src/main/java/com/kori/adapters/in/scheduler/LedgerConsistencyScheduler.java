@@ -1,37 +1,77 @@
 package com.kori.adapters.in.scheduler;
 
 import com.kori.application.port.out.AuditPort;
-import com.kori.application.port.out.LedgerQueryPort;
+import com.kori.application.port.out.LedgerConsistencyCheckPort;
+import com.kori.application.port.out.LedgerConsistencyCheckPort.ChunkResult;
 import com.kori.application.port.out.TimeProviderPort;
 import com.kori.domain.model.audit.AuditEvent;
 import com.kori.domain.model.transaction.TransactionId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
+/**
+ * Contrôle partie double du ledger, par lots depuis un curseur persisté :
+ * - incrémental : écritures arrivées depuis le dernier passage (coût proportionnel au volume écrit) ;
+ * - balayage complet : tout l'historique, quelques lots par passage, reprise au redémarrage.
+ * Les écritures plus récentes que settle-lag-ms sont laissées au passage suivant
+ * (transactions encore non commitées au moment du scan).
+ */
 @Component
 public class LedgerConsistencyScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(LedgerConsistencyScheduler.class);
     private static final int SAMPLE_SIZE = 10;
 
-    private final LedgerQueryPort ledgerQueryPort;
+    private final LedgerConsistencyCheckPort consistencyCheckPort;
     private final AuditPort auditPort;
     private final TimeProviderPort timeProviderPort;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration settleLag;
+    private final boolean fullSweepEnabled;
+    private final int fullSweepChunksPerRun;
 
     public LedgerConsistencyScheduler(
-            LedgerQueryPort ledgerQueryPort,
+            LedgerConsistencyCheckPort consistencyCheckPort,
             AuditPort auditPort,
-            TimeProviderPort timeProviderPort
+            TimeProviderPort timeProviderPort,
+            @Value("${kori.ledger.consistency-check.chunk-size:1000}") int chunkSize,
+            @Value("${kori.ledger.consistency-check.max-chunks-per-run:100}") int maxChunksPerRun,
+            @Value("${kori.ledger.consistency-check.settle-lag-ms:30000}") long settleLagMs,
+            @Value("${kori.ledger.consistency-check.full-sweep.enabled:true}") boolean fullSweepEnabled,
+            @Value("${kori.ledger.consistency-check.full-sweep.chunks-per-run:5}") int fullSweepChunksPerRun
     ) {
-        this.ledgerQueryPort = Objects.requireNonNull(ledgerQueryPort, "ledgerQueryPort");
+        this.consistencyCheckPort = Objects.requireNonNull(consistencyCheckPort, "consistencyCheckPort");
         this.auditPort = Objects.requireNonNull(auditPort, "auditPort");
         this.timeProviderPort = Objects.requireNonNull(timeProviderPort, "timeProviderPort");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be >= 1");
+        }
+        if (maxChunksPerRun < 1) {
+            throw new IllegalArgumentException("maxChunksPerRun must be >= 1");
+        }
+        if (settleLagMs < 0) {
+            throw new IllegalArgumentException("settleLagMs must be >= 0");
+        }
+        if (fullSweepChunksPerRun < 1) {
+            throw new IllegalArgumentException("fullSweepChunksPerRun must be >= 1");
+        }
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.settleLag = Duration.ofMillis(settleLagMs);
+        this.fullSweepEnabled = fullSweepEnabled;
+        this.fullSweepChunksPerRun = fullSweepChunksPerRun;
     }
 
     @Scheduled(
@@ -39,19 +79,60 @@ public class LedgerConsistencyScheduler {
             initialDelayString = "${kori.ledger.consistency-check.initial-delay-ms:60000}"
     )
     public void run() {
-        List<TransactionId> inconsistent = ledgerQueryPort.findInconsistentTransactionIds();
-        if (inconsistent.isEmpty()) {
-            log.info("Ledger consistency check: no anomalies detected.");
+        Scan scan = scan(LedgerConsistencyCheckPort.INCREMENTAL, maxChunksPerRun);
+        if (scan.inconsistent().isEmpty()) {
+            log.info("Ledger consistency check: no anomalies detected in {} new entries.", scan.scannedEntries());
+            return;
+        }
+        report(LedgerConsistencyCheckPort.INCREMENTAL, scan.inconsistent());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${kori.ledger.consistency-check.full-sweep.fixed-delay-ms:300000}",
+            initialDelayString = "${kori.ledger.consistency-check.full-sweep.initial-delay-ms:300000}"
+    )
+    public void sweep() {
+        if (!fullSweepEnabled) {
             return;
         }
+        Scan scan = scan(LedgerConsistencyCheckPort.FULL_SWEEP, fullSweepChunksPerRun);
+        if (!scan.inconsistent().isEmpty()) {
+            report(LedgerConsistencyCheckPort.FULL_SWEEP, scan.inconsistent());
+        }
+        if (scan.exhausted()) {
+            consistencyCheckPort.resetCheckpoint(LedgerConsistencyCheckPort.FULL_SWEEP);
+            log.info("Ledger consistency full sweep: pass completed, restarting from the beginning.");
+        }
+    }
 
+    private Scan scan(String checkpoint, int maxChunks) {
+        Instant upperBound = timeProviderPort.now().minus(settleLag);
+        List<TransactionId> inconsistent = new ArrayList<>();
+        int scanned = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            Optional<ChunkResult> chunk = consistencyCheckPort.checkNextChunk(checkpoint, upperBound, chunkSize);
+            if (chunk.isEmpty()) {
+                // Curseur tenu par un autre nœud
+                return new Scan(scanned, inconsistent, false);
+            }
+            scanned += chunk.get().scannedEntries();
+            inconsistent.addAll(chunk.get().inconsistentTransactionIds());
+            if (chunk.get().exhausted()) {
+                return new Scan(scanned, inconsistent, true);
+            }
+        }
+        return new Scan(scanned, inconsistent, false);
+    }
+
+    private void report(String mode, List<TransactionId> inconsistent) {
         List<String> sample = inconsistent.stream()
                 .limit(SAMPLE_SIZE)
                 .map(id -> id.value().toString())
                 .toList();
 
         log.warn(
-                "Ledger consistency check: {} transaction(s) with anomalies. Sample transaction ids: {}",
+                "Ledger consistency check ({}): {} transaction(s) with anomalies. Sample transaction ids: {}",
+                mode,
                 inconsistent.size(),
                 sample
         );
@@ -62,9 +143,13 @@ public class LedgerConsistencyScheduler {
                 "LEDGER",
                 timeProviderPort.now(),
                 Map.of(
+                        "mode", mode,
                         "count", Integer.toString(inconsistent.size()),
                         "sampleTransactionIds", String.join(",", sample)
                 )
         ));
     }
+
+    private record Scan(int scannedEntries, List<TransactionId> inconsistent, boolean exhausted) {
+    }
 }
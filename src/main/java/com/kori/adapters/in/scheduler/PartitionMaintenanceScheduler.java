@@ -0,0 +1,73 @@
+package com.kori.adapters.in.scheduler;
+
+import com.kori.application.port.out.PartitionMaintenancePort;
+import com.kori.application.port.out.TimeProviderPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Crée à l'avance les partitions journalières (veille incluse, precreate-days jours devant)
+ * et mensuelles (mois courant inclus, ledger-precreate-months mois devant).
+ * Si archive-tablespace est renseigné, les mois plus anciens que archive-after-months y sont déplacés.
+ */
+@Component
+public class PartitionMaintenanceScheduler {
+
+    private final PartitionMaintenancePort partitionMaintenancePort;
+    private final TimeProviderPort timeProviderPort;
+    private final int precreateDays;
+    private final int ledgerPrecreateMonths;
+    private final String archiveTablespace;
+    private final int archiveAfterMonths;
+
+    public PartitionMaintenanceScheduler(
+            PartitionMaintenancePort partitionMaintenancePort,
+            TimeProviderPort timeProviderPort,
+            @Value("${kori.partitioning.precreate-days:7}") int precreateDays,
+            @Value("${kori.partitioning.ledger-precreate-months:2}") int ledgerPrecreateMonths,
+            @Value("${kori.partitioning.archive-tablespace:}") String archiveTablespace,
+            @Value("${kori.partitioning.archive-after-months:12}") int archiveAfterMonths
+    ) {
+        this.partitionMaintenancePort = Objects.requireNonNull(partitionMaintenancePort, "partitionMaintenancePort");
+        this.timeProviderPort = Objects.requireNonNull(timeProviderPort, "timeProviderPort");
+        if (precreateDays < 1) {
+            throw new IllegalArgumentException("precreateDays must be >= 1");
+        }
+        if (ledgerPrecreateMonths < 1) {
+            throw new IllegalArgumentException("ledgerPrecreateMonths must be >= 1");
+        }
+        if (archiveAfterMonths < 1) {
+            throw new IllegalArgumentException("archiveAfterMonths must be >= 1");
+        }
+        String tablespace = archiveTablespace == null ? "" : archiveTablespace.trim();
+        if (!tablespace.isEmpty() && !tablespace.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("archiveTablespace must be a plain lower-case identifier");
+        }
+        this.precreateDays = precreateDays;
+        this.ledgerPrecreateMonths = ledgerPrecreateMonths;
+        this.archiveTablespace = tablespace;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${kori.partitioning.fixed-delay-ms:3600000}",
+            initialDelayString = "${kori.partitioning.initial-delay-ms:10000}"
+    )
+    public void ensurePartitions() {
+        LocalDate today = timeProviderPort.now().atZone(ZoneOffset.UTC).toLocalDate();
+        partitionMaintenancePort.ensureAuditEventPartitions(today.minusDays(1), today.plusDays(precreateDays + 1L));
+
+        YearMonth currentMonth = YearMonth.from(today);
+        partitionMaintenancePort.ensureLedgerPartitions(currentMonth, currentMonth.plusMonths(ledgerPrecreateMonths + 1L));
+
+        if (!archiveTablespace.isEmpty()) {
+            partitionMaintenancePort.archiveLedgerPartitionsBefore(currentMonth.minusMonths(archiveAfterMonths), archiveTablespace);
+        }
+    }
+}
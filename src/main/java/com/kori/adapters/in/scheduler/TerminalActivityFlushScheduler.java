@@ -0,0 +1,32 @@
+package com.kori.adapters.in.scheduler;
+
+import com.kori.application.port.out.TerminalActivityPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class TerminalActivityFlushScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TerminalActivityFlushScheduler.class);
+
+    private final TerminalActivityPort terminalActivityPort;
+
+    public TerminalActivityFlushScheduler(TerminalActivityPort terminalActivityPort) {
+        this.terminalActivityPort = Objects.requireNonNull(terminalActivityPort, "terminalActivityPort");
+    }
+
+    @Scheduled(
+            fixedDelayString = "${kori.terminal-activity.flush-interval-ms:5000}",
+            initialDelayString = "${kori.terminal-activity.initial-delay-ms:5000}"
+    )
+    public void flush() {
+        int written = terminalActivityPort.flush();
+        if (written > 0) {
+            log.debug("Terminal activity flush: {} terminal(s) updated.", written);
+        }
+    }
+}
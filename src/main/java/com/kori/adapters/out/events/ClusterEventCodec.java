@@ -0,0 +1,89 @@
+package com.kori.adapters.out.events;
+
+import com.kori.application.events.AccountProfileStatusChangedEvent;
+import com.kori.application.events.AgentStatusChangedEvent;
+import com.kori.application.events.ClientStatusChangedEvent;
+import com.kori.application.events.ConfigUpdatedEvent;
+import com.kori.application.events.DomainEvent;
+import com.kori.application.events.MerchantStatusChangedEvent;
+import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.ledger.LedgerAccountType;
+import com.kori.domain.model.agent.AgentId;
+import com.kori.domain.model.client.ClientId;
+import com.kori.domain.model.common.Status;
+import com.kori.domain.model.config.ConfigType;
+import com.kori.domain.model.merchant.MerchantId;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Format texte des événements diffusés entre instances (payload NOTIFY, 8000 octets max) :
+ * {@code type|eventId|occurredAt(ms)|champs...}. Seuls les événements qui invalident un cache sont diffusés ;
+ * la raison d'un changement de statut n'est pas transmise.
+ */
+public final class ClusterEventCodec {
+
+    private static final String SEP = "|";
+
+    private ClusterEventCodec() {
+    }
+
+    public static Optional<String> encode(DomainEvent event) {
+        if (event instanceof ConfigUpdatedEvent e) {
+            return Optional.of(join("CONFIG", e.eventId(), e.occurredAt(), e.configType().name()));
+        }
+        if (event instanceof ClientStatusChangedEvent e) {
+            return Optional.of(join("CLIENT", e.eventId(), e.occurredAt(),
+                    e.clientId().value().toString(), e.before().name(), e.after().name()));
+        }
+        if (event instanceof MerchantStatusChangedEvent e) {
+            return Optional.of(join("MERCHANT", e.eventId(), e.occurredAt(),
+                    e.merchantId().value().toString(), e.before().name(), e.after().name()));
+        }
+        if (event instanceof AgentStatusChangedEvent e) {
+            return Optional.of(join("AGENT", e.eventId(), e.occurredAt(),
+                    e.agentId().value().toString(), e.before().name(), e.after().name()));
+        }
+        if (event instanceof AccountProfileStatusChangedEvent e) {
+            return Optional.of(join("ACCOUNT", e.eventId(), e.occurredAt(),
+                    e.before().name(), e.after().name(), e.accountRef().type().name(), e.accountRef().ownerRef()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @throws IllegalArgumentException payload illisible (type inconnu, champ manquant)
+     */
+    public static DomainEvent decode(String payload) {
+        // ownerRef en dernier : limite 7 pour ne jamais le découper
+        String[] f = payload.split("\\|", 7);
+        if (f.length < 4) {
+            throw new IllegalArgumentException("Malformed cluster event: " + payload);
+        }
+        String eventId = f[1];
+        Instant occurredAt = Instant.ofEpochMilli(Long.parseLong(f[2]));
+        try {
+            return switch (f[0]) {
+                case "CONFIG" -> new ConfigUpdatedEvent(eventId, occurredAt, ConfigType.valueOf(f[3]));
+                case "CLIENT" -> new ClientStatusChangedEvent(eventId, occurredAt,
+                        new ClientId(UUID.fromString(f[3])), Status.valueOf(f[4]), Status.valueOf(f[5]), null);
+                case "MERCHANT" -> new MerchantStatusChangedEvent(eventId, occurredAt,
+                        new MerchantId(UUID.fromString(f[3])), Status.valueOf(f[4]), Status.valueOf(f[5]), null);
+                case "AGENT" -> new AgentStatusChangedEvent(eventId, occurredAt,
+                        new AgentId(UUID.fromString(f[3])), Status.valueOf(f[4]), Status.valueOf(f[5]), null);
+                case "ACCOUNT" -> new AccountProfileStatusChangedEvent(eventId, occurredAt,
+                        new LedgerAccountRef(LedgerAccountType.valueOf(f[5]), f[6]),
+                        Status.valueOf(f[3]), Status.valueOf(f[4]), null);
+                default -> throw new IllegalArgumentException("Unknown cluster event type: " + f[0]);
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed cluster event: " + payload, e);
+        }
+    }
+
+    private static String join(String type, String eventId, Instant occurredAt, String... fields) {
+        return type + SEP + eventId + SEP + occurredAt.toEpochMilli() + SEP + String.join(SEP, fields);
+    }
+}
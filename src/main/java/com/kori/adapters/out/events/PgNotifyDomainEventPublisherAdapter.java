@@ -0,0 +1,43 @@
+package com.kori.adapters.out.events;
+
+import com.kori.application.events.DomainEvent;
+import com.kori.application.port.out.DomainEventPublisherPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Publie localement (Spring) puis diffuse aux autres instances via {@code pg_notify} les événements
+ * qui invalident un cache (configuration, statuts).
+ * Le NOTIFY part dans la transaction de l'appelant : PostgreSQL ne le délivre qu'au commit, jamais sur rollback.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "kori.cluster-events.enabled", havingValue = "true")
+public class PgNotifyDomainEventPublisherAdapter implements DomainEventPublisherPort {
+
+    private final DomainEventPublisherAdapter localPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+
+    public PgNotifyDomainEventPublisherAdapter(
+            DomainEventPublisherAdapter localPublisher,
+            JdbcTemplate jdbcTemplate,
+            @Value("${kori.cluster-events.channel:kori_cache_events}") String channel) {
+        this.localPublisher = Objects.requireNonNull(localPublisher);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.channel = Objects.requireNonNull(channel, "channel");
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        localPublisher.publish(event);
+        ClusterEventCodec.encode(event).ifPresent(payload ->
+                jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { }, channel, payload));
+    }
+}
@@ -0,0 +1,93 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.model.common.Status;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache borné (LRU) des statuts de profils de compte, une entrée par LedgerAccountRef.
+ * La durée de vie borne le retard d'une instance qui n'a pas vu passer le changement de statut.
+ * Les profils absents ne sont pas mis en cache (ils peuvent être créés juste après).
+ * Générations par clé (réparties sur des compteurs, mémoire bornée) : une lecture commencée avant
+ * une invalidation ne réinstalle pas l'ancien statut.
+ */
+final class AccountStatusCache {
+
+    private record Entry(Status status, long expiresAtNanos) {
+    }
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final long ttlNanos;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Map<LedgerAccountRef, Entry> entries;
+
+    AccountStatusCache(Duration ttl, int maxSize) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be > 0");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LedgerAccountRef, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    Status get(LedgerAccountRef account) {
+        Entry entry = entries.get(account);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+            entries.remove(account, entry);
+            return null;
+        }
+        return entry.status();
+    }
+
+    /**
+     * À lire avant le chargement, puis à passer à {@link #put}.
+     */
+    long generation(LedgerAccountRef account) {
+        return generations.get(stripe(account));
+    }
+
+    void put(LedgerAccountRef account, Status status, long generation) {
+        synchronized (entries) {
+            // ne pas réinstaller un statut chargé avant une invalidation
+            if (generations.get(stripe(account)) == generation) {
+                entries.put(account, new Entry(status, System.nanoTime() + ttlNanos));
+            }
+        }
+    }
+
+    void evict(LedgerAccountRef account) {
+        synchronized (entries) {
+            generations.incrementAndGet(stripe(account));
+            entries.remove(account);
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            for (int i = 0; i < GENERATION_STRIPES; i++) {
+                generations.incrementAndGet(i);
+            }
+            entries.clear();
+        }
+    }
+
+    private static int stripe(LedgerAccountRef account) {
+        return Math.floorMod(account.hashCode(), GENERATION_STRIPES);
+    }
+}
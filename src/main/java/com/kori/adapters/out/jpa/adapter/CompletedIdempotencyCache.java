@@ -0,0 +1,62 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache borné (LRU) des résultats COMPLETED, par clé d'idempotence et hash de requête :
+ * les rejeux d'un terminal (retry après coupure réseau) sont servis sans aller en base.
+ * Une entrée ne survit jamais à l'expiration de l'enregistrement persistant.
+ */
+final class CompletedIdempotencyCache {
+
+    private record Entry(String requestHash, Object result, long expiresAtNanos) {
+    }
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    CompletedIdempotencyCache(Duration ttl, int maxSize) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be > 0");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    <T> Optional<T> get(String idempotencyKey, String requestHash, Class<T> type) {
+        Entry entry = entries.get(idempotencyKey);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+            entries.remove(idempotencyKey, entry);
+            return Optional.empty();
+        }
+        if (!entry.requestHash().equals(requestHash) || !type.isInstance(entry.result())) {
+            return Optional.empty();
+        }
+        return Optional.of(type.cast(entry.result()));
+    }
+
+    void put(String idempotencyKey, String requestHash, Object result, Instant recordExpiresAt) {
+        long untilRecordExpiry = Duration.between(Instant.now(), recordExpiresAt).toNanos();
+        long ttl = Math.min(ttlNanos, untilRecordExpiry);
+        if (ttl <= 0) {
+            return;
+        }
+        entries.put(idempotencyKey, new Entry(requestHash, result, System.nanoTime() + ttl));
+    }
+}
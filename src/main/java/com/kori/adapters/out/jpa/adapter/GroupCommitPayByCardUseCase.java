@@ -0,0 +1,333 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.application.command.PayByCardCommand;
+import com.kori.application.port.in.PayByCardUseCase;
+import com.kori.application.result.PayByCardResult;
+import com.kori.application.usecase.PayByCardService;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * PayByCard en commit groupé : les requêtes sont vérifiées en parallèle par les threads appelants
+ * (PIN, voir {@link PayByCardService#prefetch}), puis exécutées par lots (au plus maxBatchSize requêtes
+ * ou maxWait après la première) dans une seule transaction, donc un seul fsync de commit par lot.
+ * Chaque requête s'exécute sous un savepoint JDBC (le dialecte JPA n'en gère pas) : son échec n'annule qu'elle,
+ * l'appelant reçoit sa propre erreur, et les synchronisations qu'elle a enregistrées (cache après commit, etc.)
+ * sont retirées avec elle.
+ * Les verrous des requêtes déjà exécutées restent tenus jusqu'au commit du lot : une requête victime d'un deadlock
+ * ou d'un conflit de sérialisation (40P01, 40001) n'échoue pas, elle est rejouée seule après le lot.
+ * Une erreur SQL levée via JPA marque la transaction rollback-only (Hibernate) : le lot s'arrête alors et suit
+ * le chemin d'échec du commit ci-dessous.
+ * Une carte n'apparaît qu'une fois par lot (les suivantes passent au lot d'après) : un échec de PIN s'enregistre
+ * dans sa propre transaction et attendrait sinon le verrou posé sur la carte par le lot lui-même.
+ * Si le commit du lot échoue (deadlock, perte de connexion), les requêtes réussies sont rejouées une à une
+ * dans leur propre transaction ; l'idempotence reste celle de la requête (clé réservée dans le lot, annulée avec lui).
+ * L'appelant n'attend pas le lot plus de joinTimeout : passé ce délai, ou si le worker est arrêté, il exécute
+ * sa requête directement. Si le lot l'a déjà prise, la clé d'idempotence empêche la double exécution.
+ */
+public final class GroupCommitPayByCardUseCase implements PayByCardUseCase, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitPayByCardUseCase.class);
+
+    private record Pending(PayByCardCommand command, CompletableFuture<PayByCardResult> future, AtomicBoolean taken) {
+
+        Pending(PayByCardCommand command) {
+            this(command, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        /** Prise par le worker ou reprise par l'appelant : un seul des deux l'exécute. */
+        boolean take() {
+            return taken.compareAndSet(false, true);
+        }
+    }
+
+    /** replay : conflit de verrou, la requête est rejouée dans sa propre transaction après le lot. */
+    private record Outcome(Pending pending, PayByCardResult result, RuntimeException error, boolean replay) {
+    }
+
+    private static final Set<String> LOCK_CONFLICT_STATES = Set.of("40P01", "40001");
+
+    private final PayByCardService useCase;
+    private final PayByCardUseCase singleTransaction;
+    private final TransactionTemplate batchTx;
+    private final EntityManager entityManager;
+    private final DataSource dataSource;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long joinTimeoutNanos;
+    private final BlockingQueue<Pending> queue;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public GroupCommitPayByCardUseCase(PayByCardService useCase,
+                                       PayByCardUseCase singleTransaction,
+                                       PlatformTransactionManager transactionManager,
+                                       EntityManager entityManager,
+                                       DataSource dataSource,
+                                       int maxBatchSize,
+                                       long maxWaitMicros,
+                                       int queueCapacity,
+                                       long joinTimeoutMillis) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.singleTransaction = Objects.requireNonNull(singleTransaction);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.dataSource = Objects.requireNonNull(dataSource);
+        if (maxBatchSize < 1 || maxWaitMicros < 0 || queueCapacity < 1 || joinTimeoutMillis < 1) {
+            throw new IllegalArgumentException(
+                    "maxBatchSize, queueCapacity and joinTimeoutMillis must be >= 1, maxWaitMicros >= 0");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.joinTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(joinTimeoutMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.batchTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.worker = new Thread(this::run, "kori-pay-by-card-group-commit");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public PayByCardResult execute(PayByCardCommand command) {
+        useCase.prefetch(command);
+
+        Pending pending = new Pending(command);
+        if (!running || !worker.isAlive() || !queue.offer(pending)) {
+            // file pleine, arrêt en cours ou worker mort : exécution directe, comme sans commit groupé
+            return singleTransaction.execute(command);
+        }
+        try {
+            return pending.future().get(joinTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Payment failed", e.getCause());
+        } catch (TimeoutException e) {
+            pending.take();
+            pending.future().cancel(false);
+            queue.remove(pending);
+            log.warn("PayByCard group commit did not answer within {} ms (worker alive: {}), executing directly",
+                    TimeUnit.NANOSECONDS.toMillis(joinTimeoutNanos), worker.isAlive());
+            return singleTransaction.execute(command);
+        } catch (InterruptedException e) {
+            pending.take();
+            pending.future().cancel(false);
+            queue.remove(pending);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for payment", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(new IllegalStateException("Payment pipeline stopped"));
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        Deque<Pending> deferred = new ArrayDeque<>();
+        Set<String> cards = new HashSet<>();
+        while (running) {
+            try {
+                // reportées du lot précédent d'abord, une requête par carte au plus
+                for (Iterator<Pending> it = deferred.iterator(); it.hasNext() && batch.size() < maxBatchSize; ) {
+                    Pending pending = it.next();
+                    if (cards.add(pending.command().cardUid())) {
+                        batch.add(pending);
+                        it.remove();
+                    }
+                }
+                if (batch.isEmpty()) {
+                    Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    cards.add(first.command().cardUid());
+                    batch.add(first);
+                }
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (cards.add(next.command().cardUid())) {
+                        batch.add(next);
+                    } else {
+                        deferred.add(next);
+                    }
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("PayByCard group commit worker failure", e);
+            } finally {
+                for (Pending p : batch) {
+                    p.future().completeExceptionally(new IllegalStateException("Payment not processed"));
+                }
+                batch.clear();
+                cards.clear();
+            }
+        }
+        for (Pending p : deferred) {
+            p.future().completeExceptionally(new IllegalStateException("Payment pipeline stopped"));
+        }
+    }
+
+    private void process(List<Pending> batch) {
+        // requêtes reprises par leur appelant (délai d'attente dépassé)
+        batch.removeIf(pending -> !pending.take());
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        try {
+            batchTx.executeWithoutResult(status -> {
+                // connexion de la transaction JPA
+                Connection connection = DataSourceUtils.getConnection(dataSource);
+                for (Pending pending : batch) {
+                    outcomes.add(executeItem(connection, pending));
+                    if (status.isRollbackOnly()) {
+                        // commit impossible : inutile d'exécuter la suite du lot
+                        break;
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("PayByCard batch of {} rolled back, replaying successful requests one by one: {}",
+                    batch.size(), e.getMessage());
+            for (Outcome outcome : outcomes) {
+                if (outcome.error() == null || outcome.replay()) {
+                    replay(outcome.pending());
+                } else {
+                    outcome.pending().future().completeExceptionally(outcome.error());
+                }
+            }
+            // requêtes non atteintes avant l'échec
+            for (Pending pending : batch.subList(outcomes.size(), batch.size())) {
+                replay(pending);
+            }
+            return;
+        }
+        for (Outcome outcome : outcomes) {
+            if (outcome.replay()) {
+                replay(outcome.pending());
+            } else if (outcome.error() == null) {
+                outcome.pending().future().complete(outcome.result());
+            } else {
+                outcome.pending().future().completeExceptionally(outcome.error());
+            }
+        }
+    }
+
+    private Outcome executeItem(Connection connection, Pending pending) {
+        Savepoint savepoint = savepoint(connection);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        try {
+            PayByCardResult result = useCase.execute(pending.command());
+            // écritures poussées sous le savepoint de la requête
+            entityManager.flush();
+            connection.releaseSavepoint(savepoint);
+            return new Outcome(pending, result, null, false);
+        } catch (RuntimeException e) {
+            // le retour au savepoint n'annule ni le contexte de persistance ni les synchronisations de la requête
+            entityManager.clear();
+            rollbackTo(connection, savepoint);
+            restoreSynchronizations(synchronizations);
+            boolean lockConflict = hasSqlState(e, LOCK_CONFLICT_STATES);
+            if (lockConflict) {
+                log.info("PayByCard request hit a lock conflict in its batch, will replay it in its own transaction: {}", e.getMessage());
+            }
+            return new Outcome(pending, null, e, lockConflict);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Savepoint release failed", e);
+        }
+    }
+
+    private static Savepoint savepoint(Connection connection) {
+        try {
+            return connection.setSavepoint();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Savepoint creation failed", e);
+        }
+    }
+
+    private static void rollbackTo(Connection connection, Savepoint savepoint) {
+        try {
+            connection.rollback(savepoint);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Rollback to savepoint failed", e);
+        }
+    }
+
+    private static void restoreSynchronizations(List<TransactionSynchronization> synchronizations) {
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        synchronizations.forEach(TransactionSynchronizationManager::registerSynchronization);
+    }
+
+    private static boolean hasSqlState(Throwable error, Set<String> states) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && states.contains(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void replay(Pending pending) {
+        if (pending.future().isCancelled()) {
+            // abandonnée par l'appelant, qui l'a exécutée lui-même
+            return;
+        }
+        try {
+            pending.future().complete(singleTransaction.execute(pending.command()));
+        } catch (RuntimeException e) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+}
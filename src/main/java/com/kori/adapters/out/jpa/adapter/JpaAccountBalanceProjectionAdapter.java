@@ -0,0 +1,112 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.adapters.out.jpa.repo.LedgerEntryJpaRepository;
+import com.kori.application.port.out.AccountBalanceProjectionPort;
+import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.ledger.LedgerAccountType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class JpaAccountBalanceProjectionAdapter implements AccountBalanceProjectionPort {
+
+    private final LedgerEntryJpaRepository ledgerRepo;
+    private final int systemAccountShards;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public JpaAccountBalanceProjectionAdapter(
+            LedgerEntryJpaRepository ledgerRepo,
+            @Value("${kori.ledger.system-account-shards:16}") int systemAccountShards
+    ) {
+        this.ledgerRepo = Objects.requireNonNull(ledgerRepo, "ledgerRepo");
+        this.systemAccountShards = systemAccountShards;
+    }
+
+    /**
+     * Une seule requête = un seul snapshot : écritures et projection étant mises à jour
+     * dans la même transaction, un append concurrent ne produit pas de faux positif.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerAccountRef> findDriftedAccounts() {
+        List<?> rows = em.createNativeQuery("""
+                SELECT COALESCE(l.account_type, b.account_type), COALESCE(l.owner_ref, b.owner_ref)
+                FROM (
+                    SELECT account_type, owner_ref,
+                           SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE -amount END) AS balance
+                    FROM ledger_entries
+                    GROUP BY account_type, owner_ref
+                ) l
+                FULL OUTER JOIN (
+                    SELECT account_type, owner_ref, SUM(balance) AS balance
+                    FROM account_balances
+                    GROUP BY account_type, owner_ref
+                ) b
+                    ON b.account_type = l.account_type AND b.owner_ref = l.owner_ref
+                WHERE COALESCE(l.balance, 0) <> COALESCE(b.balance, 0)
+                """)
+                .getResultList();
+
+        return rows.stream()
+                .map(Object[].class::cast)
+                .map(r -> new LedgerAccountRef(LedgerAccountType.valueOf((String) r[0]), (String) r[1]))
+                .toList();
+    }
+
+    /**
+     * Toutes les lignes (shards) du compte sont créées puis verrouillées avant de relire les écritures :
+     * tout append ayant déjà touché une ligne est alors commité (donc visible en READ COMMITTED),
+     * et les suivants attendent puis appliquent leur delta sur la valeur reconstruite.
+     * Le solde reconstruit est porté par le shard 0, les autres shards repartent de zéro.
+     */
+    @Override
+    @Transactional
+    public void rebuild(LedgerAccountRef account) {
+        String type = account.type().name();
+        String ownerRef = account.ownerRef();
+        int shards = account.isSystemAccount() ? systemAccountShards : 1;
+
+        em.createNativeQuery("""
+                INSERT INTO account_balances (account_type, owner_ref, shard, balance, updated_at)
+                SELECT ?1, ?2, s, 0, now()
+                FROM generate_series(0, ?3 - 1) AS s
+                ON CONFLICT (account_type, owner_ref, shard) DO NOTHING
+                """)
+                .setParameter(1, type)
+                .setParameter(2, ownerRef)
+                .setParameter(3, shards)
+                .executeUpdate();
+
+        em.createNativeQuery("""
+                SELECT shard FROM account_balances
+                WHERE account_type = ?1 AND owner_ref = ?2
+                ORDER BY shard
+                FOR UPDATE
+                """)
+                .setParameter(1, type)
+                .setParameter(2, ownerRef)
+                .getResultList();
+
+        BigDecimal ledgerBalance = ledgerRepo.netBalance(type, ownerRef);
+
+        em.createNativeQuery("""
+                UPDATE account_balances
+                SET balance = CASE WHEN shard = 0 THEN ?3 ELSE 0 END,
+                    updated_at = now()
+                WHERE account_type = ?1 AND owner_ref = ?2
+                """)
+                .setParameter(1, type)
+                .setParameter(2, ownerRef)
+                .setParameter(3, ledgerBalance)
+                .executeUpdate();
+    }
+}
@@ -3,23 +3,36 @@ package com.kori.adapters.out.jpa.adapter;
 import com.kori.adapters.out.jpa.entity.AccountProfileEntity;
 import com.kori.adapters.out.jpa.repo.AccountProfileJpaRepository;
 import com.kori.application.port.out.AccountProfilePort;
+import com.kori.application.port.out.AccountStatusPort;
 import com.kori.domain.ledger.LedgerAccountRef;
 import com.kori.domain.ledger.LedgerAccountType;
 import com.kori.domain.model.account.AccountProfile;
 import com.kori.domain.model.common.Status;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 @Component
-public class JpaAccountProfileAdapter implements AccountProfilePort {
+public class JpaAccountProfileAdapter implements AccountProfilePort, AccountStatusPort {
 
     private final AccountProfileJpaRepository repo;
+    private final AccountStatusCache statusCache;
 
-    public JpaAccountProfileAdapter(AccountProfileJpaRepository repo) {
+    public JpaAccountProfileAdapter(
+            AccountProfileJpaRepository repo,
+            @Value("${kori.account-status.cache.enabled:true}") boolean statusCacheEnabled,
+            @Value("${kori.account-status.cache.ttl:PT30S}") Duration statusCacheTtl,
+            @Value("${kori.account-status.cache.max-size:100000}") int statusCacheMaxSize) {
         this.repo = Objects.requireNonNull(repo);
+        this.statusCache = statusCacheEnabled ? new AccountStatusCache(statusCacheTtl, statusCacheMaxSize) : null;
     }
 
     @Override
@@ -29,6 +42,48 @@ public class JpaAccountProfileAdapter implements AccountProfilePort {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<Status> findStatus(LedgerAccountRef account) {
+        if (statusCache == null) {
+            return findByAccount(account).map(AccountProfile::status);
+        }
+        Status cached = statusCache.get(account);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = statusCache.generation(account);
+        Optional<Status> status = findByAccount(account).map(AccountProfile::status);
+        status.ifPresent(s -> statusCache.put(account, s, generation));
+        return status;
+    }
+
+    /**
+     * Invalidation immédiate, puis de nouveau à la fin de la transaction en cours :
+     * une lecture concurrente a pu remettre en cache l'ancien statut (ou un statut non validé) entre-temps.
+     */
+    @Override
+    public void evict(Collection<LedgerAccountRef> accounts) {
+        if (statusCache == null || accounts.isEmpty()) {
+            return;
+        }
+        accounts.forEach(statusCache::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accounts.forEach(statusCache::evict);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        if (statusCache != null) {
+            statusCache.clear();
+        }
+    }
+
     @Override
     @Transactional
     public void save(AccountProfile profile) {
@@ -41,6 +96,7 @@ public class JpaAccountProfileAdapter implements AccountProfilePort {
                 profile.createdAt()
         );
         repo.save(e);
+        evict(List.of(profile.account()));
     }
 
     private AccountProfile toDomain(AccountProfileEntity e) {
@@ -6,22 +6,43 @@ import com.kori.adapters.out.jpa.repo.AuditEventJpaRepository;
 import com.kori.application.port.out.AuditPort;
 import com.kori.domain.model.audit.AuditEvent;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Écriture des événements d'audit, dans la transaction de l'appelant.
+ * - direct : INSERT dans audit_events ;
+ * - outbox : INSERT dans audit_outbox, relayé par lots vers audit_events (voir JpaAuditOutboxAdapter).
+ */
 @Component
 public class JpaAuditAdapter implements AuditPort {
 
     private final AuditEventJpaRepository repo;
     private final ObjectMapper objectMapper;
+    private final JpaAuditOutboxAdapter outbox;
+    private final boolean outboxMode;
 
-    public JpaAuditAdapter(AuditEventJpaRepository repo, ObjectMapper objectMapper) {
+    public JpaAuditAdapter(
+            AuditEventJpaRepository repo,
+            ObjectMapper objectMapper,
+            JpaAuditOutboxAdapter outbox,
+            @Value("${kori.audit.writer:direct}") String writer
+    ) {
         this.repo = Objects.requireNonNull(repo);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.outboxMode = switch (writer.trim().toLowerCase(Locale.ROOT)) {
+            case "direct" -> false;
+            case "outbox" -> true;
+            default -> throw new IllegalArgumentException("Unsupported kori.audit.writer: " + writer);
+        };
     }
 
     @Override
@@ -35,12 +56,17 @@ public class JpaAuditAdapter implements AuditPort {
             }
 
             String metadataJson = objectMapper.writeValueAsString(metadata);
+            OffsetDateTime occurredAt = event.occurredAt().atOffset(java.time.ZoneOffset.UTC);
+            if (outboxMode && !outbox.isSaturated()) {
+                outbox.append(UUID.randomUUID(), event.action(), event.actorType(), event.actorRef(), occurredAt, metadataJson);
+                return;
+            }
             AuditEventEntity entity = new AuditEventEntity(
                     UUID.randomUUID(),
                     event.action(),
                     event.actorType(),
                     event.actorRef(),
-                    event.occurredAt().atOffset(java.time.ZoneOffset.UTC),
+                    occurredAt,
                     metadataJson
             );
             repo.save(entity);
@@ -0,0 +1,82 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.application.port.out.AuditOutboxPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox d'audit (audit_outbox).
+ * - append : dans la transaction métier, table sans index secondaire ;
+ * - relay : DELETE ... RETURNING → INSERT dans audit_events, par lots, SKIP LOCKED (plusieurs nœuds possibles).
+ * Contre-pression : tant que le retard dépasse max-backlog, JpaAuditAdapter écrit directement dans audit_events.
+ */
+@Component
+public class JpaAuditOutboxAdapter implements AuditOutboxPort {
+
+    private final long maxBacklog;
+    private volatile boolean saturated;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public JpaAuditOutboxAdapter(@Value("${kori.audit.outbox.max-backlog:50000}") long maxBacklog) {
+        if (maxBacklog < 1) {
+            throw new IllegalArgumentException("maxBacklog must be >= 1");
+        }
+        this.maxBacklog = maxBacklog;
+    }
+
+    void append(UUID id, String action, String actorType, String actorId, OffsetDateTime occurredAt, String metadataJson) {
+        em.createNativeQuery("""
+                        INSERT INTO audit_outbox (id, action, actor_type, actor_id, occurred_at, metadata_json)
+                        VALUES (?1, ?2, ?3, ?4, ?5, ?6)
+                        """)
+                .setParameter(1, id)
+                .setParameter(2, action)
+                .setParameter(3, actorType)
+                .setParameter(4, actorId)
+                .setParameter(5, occurredAt)
+                .setParameter(6, metadataJson)
+                .executeUpdate();
+    }
+
+    boolean isSaturated() {
+        return saturated;
+    }
+
+    @Override
+    @Transactional
+    public int relay(int batchSize) {
+        int moved = em.createNativeQuery("""
+                        WITH batch AS (
+                            DELETE FROM audit_outbox
+                            WHERE seq IN (
+                                SELECT seq FROM audit_outbox
+                                ORDER BY seq
+                                LIMIT ?1
+                                FOR UPDATE SKIP LOCKED
+                            )
+                            RETURNING id, action, actor_type, actor_id, occurred_at, metadata_json
+                        )
+                        INSERT INTO audit_events (id, action, actor_type, actor_id, occurred_at, metadata_json)
+                        SELECT id, action, actor_type, actor_id, occurred_at, metadata_json
+                        FROM batch
+                        """)
+                .setParameter(1, batchSize)
+                .executeUpdate();
+
+        if (moved < batchSize) {
+            saturated = false;
+        } else {
+            Number backlog = (Number) em.createNativeQuery("SELECT count(*) FROM audit_outbox").getSingleResult();
+            saturated = backlog.longValue() > maxBacklog;
+        }
+        return moved;
+    }
+}
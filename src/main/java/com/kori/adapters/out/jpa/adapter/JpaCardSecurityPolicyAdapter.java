@@ -2,6 +2,7 @@ package com.kori.adapters.out.jpa.adapter;
 
 import com.kori.adapters.out.jpa.repo.SecurityConfigJpaRepository;
 import com.kori.application.port.out.CardSecurityPolicyPort;
+import com.kori.domain.model.config.ConfigType;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,16 +12,18 @@ import java.util.Objects;
 public class JpaCardSecurityPolicyAdapter implements CardSecurityPolicyPort {
 
     private final SecurityConfigJpaRepository repo;
+    private final JpaConfigCacheAdapter configCache;
 
-    public JpaCardSecurityPolicyAdapter(SecurityConfigJpaRepository repo) {
+    public JpaCardSecurityPolicyAdapter(SecurityConfigJpaRepository repo, JpaConfigCacheAdapter configCache) {
         this.repo = Objects.requireNonNull(repo);
+        this.configCache = Objects.requireNonNull(configCache);
     }
 
     @Override
     @Transactional(readOnly = true)
     public int maxFailedPinAttempts() {
-        return repo.findById(1)
+        return configCache.get(ConfigType.SECURITY, () -> repo.findById(1)
                 .orElseThrow(() -> new IllegalStateException("security_config row id=1 missing"))
-                .getMaxFailedPinAttempts();
+                .getMaxFailedPinAttempts());
     }
 }
@@ -3,6 +3,7 @@ package com.kori.adapters.out.jpa.adapter;
 import com.kori.adapters.out.jpa.entity.CommissionConfigEntity;
 import com.kori.adapters.out.jpa.repo.CommissionConfigJpaRepository;
 import com.kori.application.port.out.CommissionConfigPort;
+import com.kori.domain.model.config.ConfigType;
 import com.kori.domain.model.config.CommissionConfig;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,22 +17,24 @@ public class JpaCommissionConfigAdapter implements CommissionConfigPort {
     private static final int CONFIG_ID = 1;
 
     private final CommissionConfigJpaRepository repo;
+    private final JpaConfigCacheAdapter configCache;
 
-    public JpaCommissionConfigAdapter(CommissionConfigJpaRepository repo) {
+    public JpaCommissionConfigAdapter(CommissionConfigJpaRepository repo, JpaConfigCacheAdapter configCache) {
         this.repo = Objects.requireNonNull(repo);
+        this.configCache = Objects.requireNonNull(configCache);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<CommissionConfig> get() {
-        return repo.findById(CONFIG_ID).map(cfg ->
+        return configCache.get(ConfigType.COMMISSION, () -> repo.findById(CONFIG_ID).map(cfg ->
                 new CommissionConfig(
                         cfg.getCardEnrollmentAgentCommission(),
                         cfg.getMerchantWithdrawCommissionRate(),
                         cfg.getMerchantWithdrawCommissionMin(),
                         cfg.getMerchantWithdrawCommissionMax()
                 )
-        );
+        ));
     }
 
     @Override
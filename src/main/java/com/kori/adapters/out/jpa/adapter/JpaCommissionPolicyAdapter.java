@@ -1,10 +1,10 @@
 package com.kori.adapters.out.jpa.adapter;
 
-import com.kori.adapters.out.jpa.repo.CommissionConfigJpaRepository;
+import com.kori.application.port.out.CommissionConfigPort;
 import com.kori.application.port.out.CommissionPolicyPort;
 import com.kori.domain.model.common.Money;
+import com.kori.domain.model.config.CommissionConfig;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -13,29 +13,26 @@ import java.util.Objects;
 @Component
 public class JpaCommissionPolicyAdapter implements CommissionPolicyPort {
 
-    private final CommissionConfigJpaRepository repo;
+    private final CommissionConfigPort commissionConfigPort;
 
-    public JpaCommissionPolicyAdapter(CommissionConfigJpaRepository repo) {
-        this.repo = Objects.requireNonNull(repo);
+    public JpaCommissionPolicyAdapter(CommissionConfigPort commissionConfigPort) {
+        this.commissionConfigPort = Objects.requireNonNull(commissionConfigPort);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Money cardEnrollmentAgentCommission() {
-        var cfg = repo.findById(1).orElseThrow(() -> new IllegalStateException("commission_config id=1 missing"));
-        return Money.of(cfg.getCardEnrollmentAgentCommission());
+        return Money.of(config().cardEnrollmentAgentCommission());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Money merchantWithdrawAgentCommission(Money fee) {
-        var cfg = repo.findById(1).orElseThrow(() -> new IllegalStateException("commission_config id=1 missing"));
+        var cfg = config();
 
-        BigDecimal rate = cfg.getMerchantWithdrawCommissionRate();
+        BigDecimal rate = cfg.merchantWithdrawCommissionRate();
         BigDecimal v = fee.asBigDecimal().multiply(rate).setScale(2, RoundingMode.HALF_UP);
 
-        BigDecimal min = cfg.getMerchantWithdrawCommissionMin();
-        BigDecimal max = cfg.getMerchantWithdrawCommissionMax();
+        BigDecimal min = cfg.merchantWithdrawCommissionMin();
+        BigDecimal max = cfg.merchantWithdrawCommissionMax();
 
         if (min != null && v.compareTo(min) < 0) v = min;
         if (max != null && v.compareTo(max) > 0) v = max;
@@ -45,4 +42,8 @@ public class JpaCommissionPolicyAdapter implements CommissionPolicyPort {
 
         return Money.of(v);
     }
+
+    private CommissionConfig config() {
+        return commissionConfigPort.get().orElseThrow(() -> new IllegalStateException("commission_config id=1 missing"));
+    }
 }
@@ -0,0 +1,96 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.application.port.out.ConfigCachePort;
+import com.kori.domain.model.config.ConfigType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Snapshots en mémoire des lignes de configuration singleton (id = 1).
+ * Un snapshot est servi sans aller en base pendant {@code revalidateAfter} ; ensuite seule la colonne
+ * version est relue, et la ligne n'est rechargée que si elle a changé (mise à jour sur une autre instance).
+ * version est incrémentée par un trigger à chaque UPDATE de la ligne (V47), quel qu'en soit l'auteur.
+ * Une mise à jour locale invalide immédiatement le snapshot (ConfigUpdatedEvent).
+ */
+@Component
+public class JpaConfigCacheAdapter implements ConfigCachePort {
+
+    private record Snapshot(Object value, long version, long checkedAtNanos, long generation) {
+    }
+
+    private final long revalidateAfterNanos;
+    private final Map<ConfigType, Snapshot> snapshots = new EnumMap<>(ConfigType.class);
+    private final Map<ConfigType, Long> generations = new EnumMap<>(ConfigType.class);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public JpaConfigCacheAdapter(@Value("${kori.config.cache.revalidate-after:PT30S}") Duration revalidateAfter) {
+        this.revalidateAfterNanos = Objects.requireNonNull(revalidateAfter, "revalidateAfter").toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(ConfigType type, Supplier<T> loader) {
+        long generation;
+        Snapshot snapshot;
+        synchronized (snapshots) {
+            generation = generations.getOrDefault(type, 0L);
+            snapshot = snapshots.get(type);
+        }
+        long now = System.nanoTime();
+        if (snapshot != null && now - snapshot.checkedAtNanos() < revalidateAfterNanos) {
+            return (T) snapshot.value();
+        }
+
+        long version = readVersion(type);
+        if (snapshot != null && snapshot.version() == version) {
+            store(type, new Snapshot(snapshot.value(), version, now, generation));
+            return (T) snapshot.value();
+        }
+
+        // version lue avant la ligne : au pire la ligne est plus récente et sera rechargée au prochain contrôle
+        T value = loader.get();
+        store(type, new Snapshot(value, version, now, generation));
+        return value;
+    }
+
+    @Override
+    public void invalidate(ConfigType configType) {
+        synchronized (snapshots) {
+            generations.merge(configType, 1L, Long::sum);
+            snapshots.remove(configType);
+        }
+    }
+
+    private void store(ConfigType type, Snapshot next) {
+        synchronized (snapshots) {
+            // ne pas réinstaller une valeur chargée avant une invalidation
+            if (generations.getOrDefault(type, 0L) == next.generation()) {
+                snapshots.put(type, next);
+            }
+        }
+    }
+
+    private long readVersion(ConfigType type) {
+        var rows = em.createNativeQuery("SELECT version FROM " + tableOf(type) + " WHERE id = 1")
+                .getResultList();
+        return rows.isEmpty() ? -1L : ((Number) rows.get(0)).longValue();
+    }
+
+    private static String tableOf(ConfigType type) {
+        return switch (type) {
+            case FEE -> "fee_config";
+            case PLATFORM -> "platform_config";
+            case COMMISSION -> "commission_config";
+            case SECURITY -> "security_config";
+        };
+    }
+}
@@ -1,41 +1,164 @@
 package com.kori.adapters.out.jpa.adapter;
 
-import com.kori.adapters.out.jpa.repo.AuditEventJpaRepository;
-import com.kori.adapters.out.jpa.repo.IdempotencyJpaRepository;
 import com.kori.application.port.out.DataRetentionPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Objects;
 
+/**
+ * Lots ordonnés par la clé de rétention (expires_at, occurred_at) ; SKIP LOCKED : un lot ne
+ * bloque ni les requêtes applicatives ni une purge concurrente sur un autre nœud.
+ * La purge d'idempotence vise la table du store configuré (rien à purger pour le store en mémoire).
+ */
 @Component
 public class JpaDataRetentionAdapter implements DataRetentionPort {
 
-    private final IdempotencyJpaRepository idempotencyRepository;
-    private final AuditEventJpaRepository auditEventRepository;
+    private static final Logger log = LoggerFactory.getLogger(JpaDataRetentionAdapter.class);
+
+    private final String idempotencyTable;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
 
     public JpaDataRetentionAdapter(
-            IdempotencyJpaRepository idempotencyRepository,
-            AuditEventJpaRepository auditEventRepository
+            @Value("${kori.idempotency.store:postgres}") String idempotencyStore,
+            PlatformTransactionManager transactionManager
     ) {
-        this.idempotencyRepository = Objects.requireNonNull(idempotencyRepository, "idempotencyRepository");
-        this.auditEventRepository = Objects.requireNonNull(auditEventRepository, "auditEventRepository");
+        this.idempotencyTable = JpaIdempotencyAdapter.tableFor(idempotencyStore).orElse(null);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager, "transactionManager"));
     }
 
     @Override
-    @Transactional
-    public long purgeExpiredIdempotencyRecords(Instant now) {
-        OffsetDateTime cutoff = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
-        return idempotencyRepository.deleteByExpiresAtBefore(cutoff);
+    @Transactional(readOnly = true)
+    public long countExpiredIdempotencyRecords(Instant now) {
+        if (idempotencyTable == null) {
+            return 0;
+        }
+        return ((Number) em.createNativeQuery("SELECT count(*) FROM " + idempotencyTable + " WHERE expires_at < ?1")
+                .setParameter(1, OffsetDateTime.ofInstant(now, ZoneOffset.UTC))
+                .getSingleResult()).longValue();
     }
 
     @Override
     @Transactional
-    public long purgeAuditEventsBefore(Instant cutoff) {
+    public int purgeExpiredIdempotencyBatch(Instant now, int batchSize) {
+        if (idempotencyTable == null) {
+            return 0;
+        }
+        return em.createNativeQuery("""
+                        DELETE FROM %1$s
+                        WHERE idempotency_key IN (
+                            SELECT idempotency_key
+                            FROM %1$s
+                            WHERE expires_at < ?1
+                            ORDER BY expires_at, idempotency_key
+                            LIMIT ?2
+                            FOR UPDATE SKIP LOCKED
+                        )
+                        """.formatted(idempotencyTable))
+                .setParameter(1, OffsetDateTime.ofInstant(now, ZoneOffset.UTC))
+                .setParameter(2, batchSize)
+                .executeUpdate();
+    }
+
+    /**
+     * Partitions journalières entièrement antérieures au cutoff : DETACH puis DROP.
+     * Le reste (partition du jour du cutoff, partition DEFAULT) est purgé par lots.
+     * Une transaction par partition avec lock_timeout : le DETACH ne bloque pas les INSERT d'audit
+     * en attendant son verrou, et une partition verrouillée est seulement retentée au passage suivant.
+     * Le nombre de lignes est l'estimation pg_class.reltuples (pas de count(*) sur une partition supprimée).
+     */
+    @Override
+    public long dropExpiredAuditPartitions(Instant cutoff) {
         OffsetDateTime cutoffTime = OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC);
-        return auditEventRepository.deleteByOccurredAtBefore(cutoffTime);
+        List<String> partitions = transactionTemplate.execute(status -> expiredPartitions("audit_events", cutoffTime));
+
+        long dropped = 0;
+        for (String partition : partitions) {
+            try {
+                dropped += transactionTemplate.execute(status -> dropAuditPartition(partition));
+            } catch (RuntimeException e) {
+                if (!JpaPartitionMaintenanceAdapter.isLockTimeout(e)) {
+                    throw e;
+                }
+                log.warn("Partition {} is locked, drop skipped until next run.", partition);
+            }
+        }
+        return dropped;
+    }
+
+    private long dropAuditPartition(String partition) {
+        em.createNativeQuery("SET LOCAL lock_timeout = '5s'").executeUpdate();
+        long rows = ((Number) em.createNativeQuery(
+                        "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = CAST(?1 AS regclass)")
+                .setParameter(1, partition)
+                .getSingleResult()).longValue();
+        em.createNativeQuery("ALTER TABLE audit_events DETACH PARTITION " + partition).executeUpdate();
+        em.createNativeQuery("DROP TABLE " + partition).executeUpdate();
+        return rows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countAuditEventsBefore(Instant cutoff) {
+        return ((Number) em.createNativeQuery("SELECT count(*) FROM audit_events WHERE occurred_at < ?1")
+                .setParameter(1, OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC))
+                .getSingleResult()).longValue();
+    }
+
+    @Override
+    @Transactional
+    public int purgeAuditEventsBatch(Instant cutoff, int batchSize) {
+        return em.createNativeQuery("""
+                        DELETE FROM audit_events
+                        WHERE (id, occurred_at) IN (
+                            SELECT id, occurred_at
+                            FROM audit_events
+                            WHERE occurred_at < ?1
+                            ORDER BY occurred_at, id
+                            LIMIT ?2
+                            FOR UPDATE SKIP LOCKED
+                        )
+                          AND occurred_at < ?1
+                        """)
+                .setParameter(1, OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC))
+                .setParameter(2, batchSize)
+                .executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> expiredPartitions(String table, OffsetDateTime cutoff) {
+        List<String> partitions = em.createNativeQuery("""
+                        SELECT c.relname
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        JOIN pg_class p ON p.oid = i.inhparent
+                        WHERE p.relname = ?1
+                          AND c.relname ~ ('^' || ?1 || '_p[0-9]{8}$')
+                        ORDER BY c.relname
+                        """)
+                .setParameter(1, table)
+                .getResultList();
+        String prefix = table + "_p";
+        return partitions.stream()
+                .filter(name -> {
+                    LocalDate day = LocalDate.parse(name.substring(prefix.length()), JpaPartitionMaintenanceAdapter.PARTITION_SUFFIX);
+                    return !day.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC).isAfter(cutoff);
+                })
+                .toList();
     }
 }
@@ -3,6 +3,7 @@ package com.kori.adapters.out.jpa.adapter;
 import com.kori.adapters.out.jpa.entity.FeeConfigEntity;
 import com.kori.adapters.out.jpa.repo.FeeConfigJpaRepository;
 import com.kori.application.port.out.FeeConfigPort;
+import com.kori.domain.model.config.ConfigType;
 import com.kori.domain.model.config.FeeConfig;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,15 +17,17 @@ public class JpaFeeConfigAdapter implements FeeConfigPort {
     private static final int CONFIG_ID = 1;
 
     private final FeeConfigJpaRepository repo;
+    private final JpaConfigCacheAdapter configCache;
 
-    public JpaFeeConfigAdapter(FeeConfigJpaRepository repo) {
+    public JpaFeeConfigAdapter(FeeConfigJpaRepository repo, JpaConfigCacheAdapter configCache) {
         this.repo = Objects.requireNonNull(repo);
+        this.configCache = Objects.requireNonNull(configCache);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<FeeConfig> get() {
-        return repo.findById(CONFIG_ID).map(cfg ->
+        return configCache.get(ConfigType.FEE, () -> repo.findById(CONFIG_ID).map(cfg ->
                 new FeeConfig(
                         cfg.getCardEnrollmentPrice(),
                         cfg.getCardPaymentFeeRate(),
@@ -43,7 +46,7 @@ public class JpaFeeConfigAdapter implements FeeConfigPort {
                         cfg.isMerchantWithdrawFeeRefundable(),
                         cfg.isCardEnrollmentPriceRefundable()
                 )
-        );
+        ));
     }
 
     @Override
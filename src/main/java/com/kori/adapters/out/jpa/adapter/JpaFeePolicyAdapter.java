@@ -1,10 +1,10 @@
 package com.kori.adapters.out.jpa.adapter;
 
-import com.kori.adapters.out.jpa.repo.FeeConfigJpaRepository;
+import com.kori.application.port.out.FeeConfigPort;
 import com.kori.application.port.out.FeePolicyPort;
 import com.kori.domain.model.common.Money;
+import com.kori.domain.model.config.FeeConfig;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -13,45 +13,43 @@ import java.util.Objects;
 @Component
 public class JpaFeePolicyAdapter implements FeePolicyPort {
 
-    private final FeeConfigJpaRepository repo;
+    private final FeeConfigPort feeConfigPort;
 
-    public JpaFeePolicyAdapter(FeeConfigJpaRepository repo) {
-        this.repo = Objects.requireNonNull(repo);
+    public JpaFeePolicyAdapter(FeeConfigPort feeConfigPort) {
+        this.feeConfigPort = Objects.requireNonNull(feeConfigPort);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Money cardEnrollmentPrice() {
-        var cfg = repo.findById(1).orElseThrow(() -> new IllegalStateException("fee_config id=1 missing"));
-        return Money.of(cfg.getCardEnrollmentPrice());
+        return Money.of(config().cardEnrollmentPrice());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Money cardPaymentFee(Money amount) {
-        var cfg = repo.findById(1).orElseThrow(() -> new IllegalStateException("fee_config id=1 missing"));
-        return percentMinMax(amount, cfg.getCardPaymentFeeRate(), cfg.getCardPaymentFeeMin(), cfg.getCardPaymentFeeMax());
+        var cfg = config();
+        return percentMinMax(amount, cfg.cardPaymentFeeRate(), cfg.cardPaymentFeeMin(), cfg.cardPaymentFeeMax());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Money merchantWithdrawFee(Money amount) {
-        var cfg = repo.findById(1).orElseThrow(() -> new IllegalStateException("fee_config id=1 missing"));
-        return percentMinMax(amount, cfg.getMerchantWithdrawFeeRate(), cfg.getMerchantWithdrawFeeMin(), cfg.getMerchantWithdrawFeeMax());
+        var cfg = config();
+        return percentMinMax(amount, cfg.merchantWithdrawFeeRate(), cfg.merchantWithdrawFeeMin(), cfg.merchantWithdrawFeeMax());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Money clientTransferFee(Money amount) {
-        var cfg = repo.findById(1).orElseThrow(() -> new IllegalStateException("fee_config id=1 missing"));
-        return percentMinMax(amount, cfg.getClientTransferFeeRate(), cfg.getClientTransferFeeMin(), cfg.getClientTransferFeeMax());
+        var cfg = config();
+        return percentMinMax(amount, cfg.clientTransferFeeRate(), cfg.clientTransferFeeMin(), cfg.clientTransferFeeMax());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Money merchantTransferFee(Money amount) {
-        var cfg = repo.findById(1).orElseThrow(() -> new IllegalStateException("fee_config id=1 missing"));
-        return percentMinMax(amount, cfg.getMerchantTransferFeeRate(), cfg.getMerchantTransferFeeMin(), cfg.getMerchantTransferFeeMax());
+        var cfg = config();
+        return percentMinMax(amount, cfg.merchantTransferFeeRate(), cfg.merchantTransferFeeMin(), cfg.merchantTransferFeeMax());
+    }
+
+    private FeeConfig config() {
+        return feeConfigPort.get().orElseThrow(() -> new IllegalStateException("fee_config id=1 missing"));
     }
 
     private static Money percentMinMax(Money amount, BigDecimal rate, BigDecimal min, BigDecimal max) {
@@ -1,75 +1,192 @@
 package com.kori.adapters.out.jpa.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.kori.adapters.out.jpa.entity.IdempotencyRecordEntity;
-import com.kori.adapters.out.jpa.repo.IdempotencyJpaRepository;
 import com.kori.application.exception.IdempotencyConflictException;
 import com.kori.application.idempotency.IdempotencyClaim;
 import com.kori.application.idempotency.IdempotencyStatus;
 import com.kori.application.port.out.IdempotencyPort;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
-@Component
+/**
+ * Store d'idempotence PostgreSQL, sur idempotency_records (journalisée) ou
+ * idempotency_records_unlogged (UNLOGGED, partitionnée par hash : pas de WAL, vidée après un crash).
+ * Sélection par kori.idempotency.store (voir IdempotencyStoreConfig).
+ */
 public class JpaIdempotencyAdapter implements IdempotencyPort {
 
-    private final IdempotencyJpaRepository repo;
+    public static final String LOGGED_TABLE = "idempotency_records";
+    public static final String UNLOGGED_TABLE = "idempotency_records_unlogged";
+
     private final ObjectMapper objectMapper;
+    private final String table;
     private final Duration idempotencyTtl;
+    private final CompletedIdempotencyCache completedCache;
 
     @PersistenceContext
     private EntityManager em;
 
     public JpaIdempotencyAdapter(
-            IdempotencyJpaRepository repo,
             ObjectMapper objectMapper,
-            @Value("${kori.idempotency.ttl:PT24H}") Duration idempotencyTtl) {
-        this.repo = Objects.requireNonNull(repo);
+            String table,
+            Duration idempotencyTtl,
+            boolean completedCacheEnabled,
+            Duration completedCacheTtl,
+            int completedCacheMaxSize) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
-        this.idempotencyTtl = idempotencyTtl;
+        if (!LOGGED_TABLE.equals(table) && !UNLOGGED_TABLE.equals(table)) {
+            throw new IllegalArgumentException("Unsupported idempotency table: " + table);
+        }
+        this.table = table;
+        this.idempotencyTtl = Objects.requireNonNull(idempotencyTtl);
+        this.completedCache = completedCacheEnabled
+                ? new CompletedIdempotencyCache(completedCacheTtl, completedCacheMaxSize)
+                : null;
+    }
+
+    /**
+     * Table associée à une valeur de kori.idempotency.store ; empty pour le store en mémoire.
+     */
+    public static Optional<String> tableFor(String store) {
+        return switch (store.trim().toLowerCase(Locale.ROOT)) {
+            case "postgres" -> Optional.of(LOGGED_TABLE);
+            case "unlogged" -> Optional.of(UNLOGGED_TABLE);
+            case "memory" -> Optional.empty();
+            default -> throw new IllegalArgumentException("Unsupported kori.idempotency.store: " + store);
+        };
     }
 
+    /**
+     * Un seul aller-retour dans le cas courant : l'INSERT réclame une clé absente, sinon la ligne existante
+     * est relue dans la même instruction. ON CONFLICT DO NOTHING ne verrouille pas la ligne existante :
+     * un rejeu reste une lecture.
+     * Aucune ligne : une transaction concurrente insérait la clé ; l'INSERT a attendu son commit mais la lecture
+     * de l'instruction voit le snapshot d'avant l'attente. La ligne est relue dans une seconde instruction
+     * (rejeu d'une requête qui vient d'aboutir : COMPLETED, pas IN_PROGRESS).
+     * Clé expirée (pas encore purgée) : reprise par un UPDATE conditionnel.
+     */
     @Override
     @Transactional
     public <T> IdempotencyClaim<T> claimOrLoad(String idempotencyKey, String requestHash, Class<T> type) {
+        if (completedCache != null) {
+            Optional<T> cached = completedCache.get(idempotencyKey, requestHash, type);
+            if (cached.isPresent()) {
+                return IdempotencyClaim.completed(cached.get());
+            }
+        }
+
         OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
         OffsetDateTime expiresAt = now.plus(idempotencyTtl);
 
-        int claimed = em.createNativeQuery("""
-                INSERT INTO idempotency_records (idempotency_key, result_type, result_json, request_hash, status, expires_at)
-                VALUES (?1, ?2, NULL, ?3, 'IN_PROGRESS', ?4)
-                ON CONFLICT (idempotency_key) DO UPDATE
-                    SET request_hash = EXCLUDED.request_hash,
-                        result_type = EXCLUDED.result_type,
-                        result_json = NULL,
-                        status = 'IN_PROGRESS',
-                        expires_at = EXCLUDED.expires_at
-                    WHERE idempotency_records.expires_at < ?5
-                """)
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                WITH claim AS (
+                    INSERT INTO %1$s (idempotency_key, result_type, result_json, request_hash, status, expires_at)
+                    VALUES (?1, ?2, NULL, ?3, 'IN_PROGRESS', ?4)
+                    ON CONFLICT (idempotency_key) DO NOTHING
+                    RETURNING idempotency_key
+                )
+                SELECT TRUE, CAST(NULL AS varchar), CAST(NULL AS varchar), CAST(NULL AS varchar), CAST(NULL AS text),
+                       CAST(NULL AS timestamptz)
+                FROM claim
+                UNION ALL
+                SELECT FALSE, r.status, r.request_hash, r.result_type, r.result_json, r.expires_at
+                FROM %1$s r
+                WHERE r.idempotency_key = ?1
+                  AND NOT EXISTS (SELECT 1 FROM claim)
+                """.formatted(table))
                 .setParameter(1, idempotencyKey)
                 .setParameter(2, type.getName())
                 .setParameter(3, requestHash)
                 .setParameter(4, expiresAt)
-                .setParameter(5, now)
-                .executeUpdate();
+                .getResultList();
 
-        if (claimed > 0) {
-            return IdempotencyClaim.claimed();
+        Object[] row;
+        if (rows.isEmpty()) {
+            Optional<Object[]> committed = loadRecord(idempotencyKey);
+            if (committed.isEmpty()) {
+                return IdempotencyClaim.inProgress();
+            }
+            row = committed.get();
+        } else {
+            row = rows.get(0);
+            if ((Boolean) row[0]) {
+                return IdempotencyClaim.claimed();
+            }
         }
 
-        return repo.findById(idempotencyKey)
-                .map(record -> mapExistingRecord(idempotencyKey, requestHash, type, record))
-                .orElseGet(() -> attemptClaimAfterDelete(idempotencyKey, requestHash, type, expiresAt));
+        if (toInstant(row[5]).isBefore(now.toInstant())) {
+            if (reclaimExpired(idempotencyKey, type, requestHash, expiresAt, now)) {
+                return IdempotencyClaim.claimed();
+            }
+            Optional<Object[]> current = loadRecord(idempotencyKey);
+            if (current.isEmpty()) {
+                return IdempotencyClaim.inProgress();
+            }
+            row = current.get();
+        }
+        return mapExistingRecord(
+                idempotencyKey,
+                requestHash,
+                type,
+                IdempotencyStatus.valueOf((String) row[1]),
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                toInstant(row[5])
+        );
+    }
+
+    private boolean reclaimExpired(String idempotencyKey,
+                                   Class<?> type,
+                                   String requestHash,
+                                   OffsetDateTime expiresAt,
+                                   OffsetDateTime now) {
+        return em.createNativeQuery("""
+                        UPDATE %s
+                        SET request_hash = ?3,
+                            result_type = ?2,
+                            result_json = NULL,
+                            status = 'IN_PROGRESS',
+                            expires_at = ?4
+                        WHERE idempotency_key = ?1
+                          AND expires_at < ?5
+                        """.formatted(table))
+                .setParameter(1, idempotencyKey)
+                .setParameter(2, type.getName())
+                .setParameter(3, requestHash)
+                .setParameter(4, expiresAt)
+                .setParameter(5, now)
+                .executeUpdate() == 1;
+    }
+
+    /**
+     * Même forme de ligne que la lecture de claimOrLoad (colonne 0 inutilisée).
+     */
+    private Optional<Object[]> loadRecord(String idempotencyKey) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        SELECT FALSE, status, request_hash, result_type, result_json, expires_at
+                        FROM %s
+                        WHERE idempotency_key = ?1
+                        """.formatted(table))
+                .setParameter(1, idempotencyKey)
+                .getResultList();
+        return rows.stream().findFirst();
     }
 
     @Override
@@ -81,7 +198,7 @@ public class JpaIdempotencyAdapter implements IdempotencyPort {
             OffsetDateTime expiresAt = OffsetDateTime.now(ZoneOffset.UTC).plus(idempotencyTtl);
 
             int updated = em.createNativeQuery("""
-                UPDATE idempotency_records
+                UPDATE %s
                 SET result_type = ?2,
                     result_json = ?3,
                     request_hash = ?4,
@@ -90,7 +207,7 @@ public class JpaIdempotencyAdapter implements IdempotencyPort {
                 WHERE idempotency_key = ?1
                   AND request_hash = ?4
                   AND status = 'IN_PROGRESS'
-                """)
+                """.formatted(table))
                     .setParameter(1, idempotencyKey)
                     .setParameter(2, type)
                     .setParameter(3, json)
@@ -99,6 +216,8 @@ public class JpaIdempotencyAdapter implements IdempotencyPort {
                     .executeUpdate();
             if (updated == 0) {
                 handleCompletionNoUpdate(idempotencyKey, requestHash, type);
+            } else if (completedCache != null) {
+                cacheAfterCommit(idempotencyKey, requestHash, result, expiresAt.toInstant());
             }
 
         } catch (Exception e) {
@@ -112,23 +231,23 @@ public class JpaIdempotencyAdapter implements IdempotencyPort {
         OffsetDateTime expiresAt = OffsetDateTime.now(ZoneOffset.UTC).plus(idempotencyTtl);
 
         int updated = em.createNativeQuery("""
-                UPDATE idempotency_records
+                UPDATE %s
                 SET status = 'FAILED',
                     expires_at = ?3
                 WHERE idempotency_key = ?1
                   AND request_hash = ?2
                   AND status = 'IN_PROGRESS'
-            """)
+            """.formatted(table))
                 .setParameter(1, idempotencyKey)
                 .setParameter(2, requestHash)
                 .setParameter(3, expiresAt)
                 .executeUpdate();
 
         if (updated == 0) {
-            repo.findById(idempotencyKey)
-                    .filter(record -> record.getRequestHash() != null
-                            && !record.getRequestHash().isBlank()
-                            && !record.getRequestHash().equals(requestHash))
+            findRecord(idempotencyKey)
+                    .filter(record -> record.requestHash() != null
+                            && !record.requestHash().isBlank()
+                            && !record.requestHash().equals(requestHash))
                     .ifPresent(record -> {
                         throw new IdempotencyConflictException(
                                 "Idempotency key reuse with different payload.",
@@ -141,68 +260,97 @@ public class JpaIdempotencyAdapter implements IdempotencyPort {
     private <T> IdempotencyClaim<T> mapExistingRecord(String idempotencyKey,
                                                       String requestHash,
                                                       Class<T> type,
-                                                      IdempotencyRecordEntity record) {
-        if (record.getExpiresAt() != null && record.getExpiresAt().isBefore(OffsetDateTime.now(ZoneOffset.UTC))) {
-            repo.deleteById(idempotencyKey);
-            return attemptClaimAfterDelete(idempotencyKey, requestHash, type, OffsetDateTime.now(ZoneOffset.UTC).plus(idempotencyTtl));
-        }
-        if (record.getRequestHash() != null && !record.getRequestHash().isBlank() && !record.getRequestHash().equals(requestHash)) {
+                                                      IdempotencyStatus status,
+                                                      String recordRequestHash,
+                                                      String recordResultType,
+                                                      String recordResultJson,
+                                                      Instant recordExpiresAt) {
+        if (recordRequestHash != null && !recordRequestHash.isBlank() && !recordRequestHash.equals(requestHash)) {
             return IdempotencyClaim.conflict();
         }
-        if (!record.getResultType().equals(type.getName())) {
+        if (!recordResultType.equals(type.getName())) {
             throw new IllegalStateException("Idempotency type mismatch for key=" + idempotencyKey);
         }
 
-        if (record.getStatus() == IdempotencyStatus.COMPLETED && record.getResultJson() != null && !record.getResultJson().isBlank()) {
+        if (status == IdempotencyStatus.COMPLETED && recordResultJson != null && !recordResultJson.isBlank()) {
+            T result;
             try {
-                return IdempotencyClaim.completed(objectMapper.readValue(record.getResultJson(), type));
+                result = objectMapper.readValue(recordResultJson, type);
             } catch (Exception e) {
                 throw new IllegalStateException("Failed to deserialize idempotency for key=" + idempotencyKey, e);
             }
+            if (completedCache != null) {
+                completedCache.put(idempotencyKey, requestHash, result, recordExpiresAt);
+            }
+            return IdempotencyClaim.completed(result);
         }
 
-        if (record.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+        if (status == IdempotencyStatus.IN_PROGRESS) {
             return IdempotencyClaim.inProgress();
         }
 
         return IdempotencyClaim.conflict();
     }
 
-    private <T> IdempotencyClaim<T> attemptClaimAfterDelete(String idempotencyKey,
-                                                            String requestHash,
-                                                            Class<T> type,
-                                                            OffsetDateTime expiresAt) {
-        int claimed = em.createNativeQuery("""
-                INSERT INTO idempotency_records (idempotency_key, result_type, result_json, request_hash, status, expires_at)
-                VALUES (?1, ?2, NULL, ?3, 'IN_PROGRESS', ?4)
-                ON CONFLICT (idempotency_key) DO NOTHING
-                """)
-                .setParameter(1, idempotencyKey)
-                .setParameter(2, type.getName())
-                .setParameter(3, requestHash)
-                .setParameter(4, expiresAt)
-                .executeUpdate();
-        if (claimed > 0) {
-            return IdempotencyClaim.claimed();
+    /**
+     * Le résultat n'est visible des rejeux qu'une fois la transaction englobante commitée
+     * (un rollback ne doit pas laisser de résultat en cache).
+     */
+    private void cacheAfterCommit(String idempotencyKey, String requestHash, Object result, Instant expiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            completedCache.put(idempotencyKey, requestHash, result, expiresAt);
+            return;
         }
-        return IdempotencyClaim.inProgress();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                completedCache.put(idempotencyKey, requestHash, result, expiresAt);
+            }
+        });
+    }
+
+    private static Instant toInstant(Object value) {
+        if (value instanceof Instant instant) {
+            return instant;
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        throw new IllegalStateException("Unexpected timestamp type: " + value);
     }
 
     private void handleCompletionNoUpdate(String idempotencyKey, String requestHash, String type) {
-        Optional<IdempotencyRecordEntity> record = repo.findById(idempotencyKey);
+        Optional<StoredRecord> record = findRecord(idempotencyKey);
         if (record.isEmpty()) {
             throw new IllegalStateException("Missing idempotency record for key=" + idempotencyKey);
         }
-        if (record.get().getRequestHash() != null
-                && !record.get().getRequestHash().isBlank()
-                && !record.get().getRequestHash().equals(requestHash)) {
+        if (record.get().requestHash() != null
+                && !record.get().requestHash().isBlank()
+                && !record.get().requestHash().equals(requestHash)) {
             throw new IdempotencyConflictException(
                     "Idempotency key reuse with different payload.",
                     Map.of("idempotencyKey", idempotencyKey)
             );
         }
-        if (!record.get().getResultType().equals(type)) {
+        if (!record.get().resultType().equals(type)) {
             throw new IllegalStateException("Idempotency type mismatch for key=" + idempotencyKey);
         }
     }
+
+    private Optional<StoredRecord> findRecord(String idempotencyKey) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery(
+                        "SELECT request_hash, result_type FROM " + table + " WHERE idempotency_key = ?1")
+                .setParameter(1, idempotencyKey)
+                .getResultList();
+        return rows.stream()
+                .findFirst()
+                .map(row -> new StoredRecord((String) row[0], (String) row[1]));
+    }
+
+    private record StoredRecord(String requestHash, String resultType) {
+    }
 }
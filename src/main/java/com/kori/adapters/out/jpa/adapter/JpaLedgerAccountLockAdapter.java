@@ -1,28 +1,115 @@
 package com.kori.adapters.out.jpa.adapter;
 
-import com.kori.adapters.out.jpa.repo.AccountProfileJpaRepository;
 import com.kori.application.port.out.LedgerAccountLockPort;
 import com.kori.domain.ledger.LedgerAccountRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
+/**
+ * Verrous de comptes, pris en un seul aller-retour et toujours dans le même ordre :
+ * - row : SELECT ... FOR UPDATE sur account_profiles, trié par (account_type, owner_ref) ;
+ * - advisory : pg_advisory_xact_lock sur un hash 64 bits du compte, clés triées
+ *   (pas de ligne verrouillée : n'interfère pas avec les mises à jour de account_profiles).
+ */
 @Component
 public class JpaLedgerAccountLockAdapter implements LedgerAccountLockPort {
 
-    private final AccountProfileJpaRepository repo;
+    private static final Comparator<LedgerAccountRef> CANONICAL_ORDER =
+            Comparator.comparing((LedgerAccountRef ref) -> ref.type().name()).thenComparing(LedgerAccountRef::ownerRef);
 
-    public JpaLedgerAccountLockAdapter(AccountProfileJpaRepository repo) {
-        this.repo = Objects.requireNonNull(repo, "repo");
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean advisory;
+
+    public JpaLedgerAccountLockAdapter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${kori.ledger.lock-mode:row}") String lockMode
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.advisory = switch (lockMode.trim().toLowerCase(Locale.ROOT)) {
+            case "row" -> false;
+            case "advisory" -> true;
+            default -> throw new IllegalArgumentException("Unsupported kori.ledger.lock-mode: " + lockMode);
+        };
     }
 
     @Override
     @Transactional
-    public void lock(LedgerAccountRef accountRef) {
-        var locked = repo.findByIdAccountTypeAndIdOwnerRefForUpdate(accountRef.type().name(), accountRef.ownerRef());
-        if (locked.isEmpty()) {
-            throw new IllegalStateException("Account profile not found for lock: " + accountRef);
+    public void lockAll(Collection<LedgerAccountRef> accountRefs) {
+        Set<LedgerAccountRef> refs = new TreeSet<>(CANONICAL_ORDER);
+        refs.addAll(accountRefs);
+        if (refs.isEmpty()) {
+            return;
+        }
+        if (advisory) {
+            lockAdvisory(refs);
+        } else {
+            lockRows(refs);
+        }
+    }
+
+    private void lockRows(Set<LedgerAccountRef> refs) {
+        String[] types = refs.stream().map(ref -> ref.type().name()).toArray(String[]::new);
+        String[] owners = refs.stream().map(LedgerAccountRef::ownerRef).toArray(String[]::new);
+
+        // ORDER BY sous FOR UPDATE : les lignes sont verrouillées dans l'ordre du tri
+        List<LedgerAccountRef> locked = jdbcTemplate.query(connection -> {
+                    var ps = connection.prepareStatement("""
+                            SELECT ap.account_type, ap.owner_ref
+                            FROM account_profiles ap
+                            JOIN unnest(?::varchar[], ?::varchar[]) AS k(account_type, owner_ref)
+                              ON k.account_type = ap.account_type AND k.owner_ref = ap.owner_ref
+                            ORDER BY ap.account_type, ap.owner_ref
+                            FOR UPDATE OF ap
+                            """);
+                    ps.setArray(1, connection.createArrayOf("varchar", types));
+                    ps.setArray(2, connection.createArrayOf("varchar", owners));
+                    return ps;
+                },
+                (rs, i) -> LedgerAccountRef.of(rs.getString(1), rs.getString(2))
+        );
+
+        if (locked.size() != refs.size()) {
+            Set<LedgerAccountRef> missing = new HashSet<>(refs);
+            locked.forEach(missing::remove);
+            throw new IllegalStateException("Account profile not found for lock: " + missing);
+        }
+    }
+
+    private void lockAdvisory(Set<LedgerAccountRef> refs) {
+        // Clés triées et dédoublonnées (collision de hash = même verrou) ; unnest conserve l'ordre du tableau
+        Long[] keys = refs.stream().map(JpaLedgerAccountLockAdapter::advisoryKey).distinct().sorted().toArray(Long[]::new);
+        jdbcTemplate.query(connection -> {
+                    var ps = connection.prepareStatement(
+                            "SELECT pg_advisory_xact_lock(k) FROM unnest(?::bigint[]) WITH ORDINALITY AS t(k, ord) ORDER BY ord");
+                    ps.setArray(1, connection.createArrayOf("bigint", keys));
+                    return ps;
+                },
+                rs -> null
+        );
+    }
+
+    static long advisoryKey(LedgerAccountRef ref) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((ref.type().name() + ':' + ref.ownerRef()).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 }
@@ -1,38 +1,93 @@
 package com.kori.adapters.out.jpa.adapter;
 
 import com.kori.adapters.out.jpa.entity.LedgerEntryEntity;
+import com.kori.adapters.out.jpa.entity.TransactionEntity;
 import com.kori.adapters.out.jpa.repo.LedgerEntryJpaRepository;
 import com.kori.application.port.out.LedgerAppendPort;
+import com.kori.application.port.out.LedgerAppendPort.TransactionContext;
 import com.kori.application.port.out.LedgerQueryPort;
 import com.kori.domain.ledger.LedgerAccountRef;
 import com.kori.domain.ledger.LedgerAccountType;
 import com.kori.domain.ledger.LedgerEntry;
 import com.kori.domain.ledger.LedgerEntryType;
 import com.kori.domain.model.common.Money;
+import com.kori.domain.model.transaction.Transaction;
 import com.kori.domain.model.transaction.TransactionId;
 import com.kori.domain.model.transaction.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.PreparedStatement;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Component
 public class JpaLedgerAdapter implements LedgerAppendPort, LedgerQueryPort {
 
+    private static final String INSERT_ENTRIES_SQL = """
+            INSERT INTO ledger_entries (id, transaction_id, account_type, owner_ref, entry_type, amount, created_at)
+            SELECT u.id, u.transaction_id, u.account_type, u.owner_ref, u.entry_type, u.amount,
+                   ?::timestamptz + (u.ord - 1) * interval '1 microsecond'
+            FROM unnest(?::uuid[], ?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[])
+                 WITH ORDINALITY AS u(id, transaction_id, account_type, owner_ref, entry_type, amount, ord)
+            """;
+
+    private static final String POST_GUARDED_SQL =
+            "SELECT kori_post_guarded_v2(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final LedgerEntryJpaRepository repo;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate queryJdbcTemplate;
+    private final int systemAccountShards;
+    private final boolean postingFunction;
 
-    public JpaLedgerAdapter(LedgerEntryJpaRepository repo) {
+    @PersistenceContext
+    private EntityManager em;
+
+    public JpaLedgerAdapter(
+            LedgerEntryJpaRepository repo,
+            JdbcTemplate jdbcTemplate,
+            @Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate queryJdbcTemplate,
+            @Value("${kori.ledger.system-account-shards:16}") int systemAccountShards,
+            @Value("${kori.ledger.posting:statements}") String posting
+    ) {
         this.repo = Objects.requireNonNull(repo, "repo");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.queryJdbcTemplate = Objects.requireNonNull(queryJdbcTemplate, "queryJdbcTemplate");
+        if (systemAccountShards < 1) {
+            throw new IllegalArgumentException("systemAccountShards must be >= 1");
+        }
+        this.systemAccountShards = systemAccountShards;
+        this.postingFunction = switch (posting) {
+            case "statements" -> false;
+            case "function" -> true;
+            default -> throw new IllegalArgumentException("kori.ledger.posting must be statements or function: " + posting);
+        };
     }
 
     /**
      * Append-only: insère des écritures immuables.
-     * L'entité est updatable=false sur tous les champs métier (voir LedgerEntryEntity).
+     * Un seul INSERT ... SELECT FROM unnest(...) par appel, quel que soit le nombre d'écritures :
+     * pas de passage par le persistence context, texte SQL constant (plan réutilisable).
      */
     @Override
     @Transactional
@@ -41,17 +96,198 @@ public class JpaLedgerAdapter implements LedgerAppendPort, LedgerQueryPort {
             return;
         }
 
-        List<LedgerEntryEntity> entities = entries.stream()
-                .map(this::toEntity)
-                .toList();
+        insertEntries(entries);
+        upsertBalanceDeltas(balanceDeltas(entries).values());
+        applySpendCounters(entries, findTransactions(entries));
+    }
+
+    /**
+     * Insert de la transaction avec ses contreparties (un seul INSERT) puis append.
+     */
+    @Override
+    @Transactional
+    public void post(Transaction transaction, TransactionContext context, List<LedgerEntry> entries) {
+        Objects.requireNonNull(context, "context");
+        requireOwnEntries(transaction, entries);
+
+        TransactionEntity tx = TransactionRows.insert(em, transaction, context, TransactionRows.counterparties(transaction, entries));
+        insertEntries(entries);
+        upsertBalanceDeltas(balanceDeltas(entries).values());
+        applySpendCounters(entries, Map.of(tx.getId(), tx));
+    }
+
+    /**
+     * Débit gardé : le delta du compte gardé est appliqué par un UPDATE ... WHERE balance >= besoin,
+     * à sa place dans l'ordre stable des deltas (pas de deadlock avec les appends concurrents).
+     * Zéro ligne affectée = solde insuffisant (ou compte sans solde) : on s'arrête avant les écritures,
+     * la transaction est annulée par l'exception métier de l'appelant.
+     */
+    @Override
+    @Transactional
+    public boolean appendGuarded(List<LedgerEntry> entries, LedgerAccountRef guardedAccount) {
+        Objects.requireNonNull(guardedAccount, "guardedAccount");
+        if (guardedAccount.isSystemAccount()) {
+            throw new IllegalArgumentException("guardedAccount must not be a system account");
+        }
+        if (entries == null || entries.isEmpty()) {
+            return true;
+        }
+        return applyGuarded(entries, guardedAccount, findTransactions(entries)).isPresent();
+    }
+
+    /**
+     * kori.ledger.posting=statements : insert de la transaction puis appendGuarded (plusieurs instructions) ;
+     * function : un seul appel à kori_post_guarded_v2 (V45) puis l'insert du contexte de la transaction,
+     * mêmes écritures, même ordre de verrouillage.
+     */
+    @Override
+    @Transactional
+    public Optional<Money> postGuarded(Transaction transaction,
+                                       TransactionContext context,
+                                       List<LedgerEntry> entries,
+                                       LedgerAccountRef guardedAccount) {
+        Objects.requireNonNull(transaction, "transaction");
+        Objects.requireNonNull(context, "context");
+        if (transaction.originalTransactionId() != null) {
+            throw new IllegalArgumentException("postGuarded does not handle reversals");
+        }
+        requireOwnEntries(transaction, entries);
+
+        if (!postingFunction) {
+            TransactionEntity tx = TransactionRows.insert(em, transaction, context, TransactionRows.counterparties(transaction, entries));
+            return applyGuarded(entries, guardedAccount, Map.of(tx.getId(), tx)).map(Money::of);
+        }
+
+        requireGuardedDebit(balanceDeltas(entries), guardedAccount);
+        BigDecimal balance = jdbcTemplate.query(connection -> {
+            int n = entries.size();
+            UUID[] ids = new UUID[n];
+            String[] accountTypes = new String[n];
+            String[] ownerRefs = new String[n];
+            String[] entryTypes = new String[n];
+            BigDecimal[] amounts = new BigDecimal[n];
+            Short[] shards = new Short[n];
+            for (int i = 0; i < n; i++) {
+                LedgerEntry e = entries.get(i);
+                ids[i] = UUID.fromString(e.id());
+                accountTypes[i] = e.accountRef().type().name();
+                ownerRefs[i] = e.accountRef().ownerRef();
+                entryTypes[i] = e.type().name();
+                amounts[i] = e.amount().asBigDecimal();
+                shards[i] = (short) shardOf(e);
+            }
+            PreparedStatement ps = connection.prepareStatement(POST_GUARDED_SQL);
+            ps.setObject(1, transaction.id().value());
+            ps.setString(2, transaction.type().name());
+            ps.setBigDecimal(3, transaction.amount().asBigDecimal());
+            ps.setObject(4, transaction.createdAt().atOffset(ZoneOffset.UTC));
+            ps.setString(5, guardedAccount.type().name());
+            ps.setString(6, guardedAccount.ownerRef());
+            ps.setArray(7, connection.createArrayOf("uuid", ids));
+            ps.setArray(8, connection.createArrayOf("varchar", accountTypes));
+            ps.setArray(9, connection.createArrayOf("varchar", ownerRefs));
+            ps.setArray(10, connection.createArrayOf("varchar", entryTypes));
+            ps.setArray(11, connection.createArrayOf("numeric", amounts));
+            ps.setArray(12, connection.createArrayOf("int2", shards));
+            return ps;
+        }, rs -> rs.next() ? rs.getBigDecimal(1) : null);
+        if (balance != null) {
+            TransactionRows.insertContext(em, transaction.id().value(), context,
+                    transaction.createdAt().atOffset(ZoneOffset.UTC));
+        }
+        return Optional.ofNullable(balance).map(Money::of);
+    }
+
+    /**
+     * Nouveau solde du compte gardé, vide si insuffisant (rien n'est écrit après le débit refusé).
+     */
+    private Optional<BigDecimal> applyGuarded(List<LedgerEntry> entries, LedgerAccountRef guardedAccount,
+                                              Map<UUID, TransactionEntity> transactions) {
+        TreeMap<String, BalanceDelta> deltas = balanceDeltas(entries);
+        BalanceDelta guarded = requireGuardedDebit(deltas, guardedAccount);
+        String guardedKey = deltaKey(guardedAccount, 0);
+
+        upsertBalanceDeltas(deltas.headMap(guardedKey).values());
+        Optional<BigDecimal> balance = debitIfSufficient(guarded);
+        if (balance.isEmpty()) {
+            return balance;
+        }
+        upsertBalanceDeltas(deltas.tailMap(guardedKey, false).values());
+        insertEntries(entries);
+        applySpendCounters(entries, transactions);
+        return balance;
+    }
+
+    private static void requireOwnEntries(Transaction transaction, List<LedgerEntry> entries) {
+        Objects.requireNonNull(transaction, "transaction");
+        if (entries == null || entries.isEmpty()
+                || !entries.stream().allMatch(e -> e.transactionId().equals(transaction.id()))) {
+            throw new IllegalArgumentException("entries must belong to the posted transaction");
+        }
+    }
+
+    private static BalanceDelta requireGuardedDebit(TreeMap<String, BalanceDelta> deltas, LedgerAccountRef guardedAccount) {
+        Objects.requireNonNull(guardedAccount, "guardedAccount");
+        if (guardedAccount.isSystemAccount()) {
+            throw new IllegalArgumentException("guardedAccount must not be a system account");
+        }
+        BalanceDelta guarded = deltas.get(deltaKey(guardedAccount, 0));
+        if (guarded == null || guarded.amount().signum() >= 0) {
+            throw new IllegalArgumentException("guardedAccount must be debited by entries");
+        }
+        return guarded;
+    }
+
+    /**
+     * created_at : horodatage commun décalé d'une microseconde par rang,
+     * pour conserver l'ordre d'insertion (lectures triées par created_at, id).
+     */
+    private void insertEntries(List<LedgerEntry> entries) {
+        int n = entries.size();
+        UUID[] ids = new UUID[n];
+        UUID[] transactionIds = new UUID[n];
+        String[] accountTypes = new String[n];
+        String[] ownerRefs = new String[n];
+        String[] entryTypes = new String[n];
+        BigDecimal[] amounts = new BigDecimal[n];
+        for (int i = 0; i < n; i++) {
+            LedgerEntry e = entries.get(i);
+            ids[i] = UUID.fromString(e.id());
+            transactionIds[i] = e.transactionId().value();
+            accountTypes[i] = e.accountRef().type().name();
+            ownerRefs[i] = e.accountRef().ownerRef();
+            entryTypes[i] = e.type().name();
+            amounts[i] = e.amount().asBigDecimal();
+        }
 
-        repo.saveAll(entities);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_ENTRIES_SQL);
+            ps.setObject(1, OffsetDateTime.now(ZoneOffset.UTC));
+            ps.setArray(2, connection.createArrayOf("uuid", ids));
+            ps.setArray(3, connection.createArrayOf("uuid", transactionIds));
+            ps.setArray(4, connection.createArrayOf("varchar", accountTypes));
+            ps.setArray(5, connection.createArrayOf("varchar", ownerRefs));
+            ps.setArray(6, connection.createArrayOf("varchar", entryTypes));
+            ps.setArray(7, connection.createArrayOf("numeric", amounts));
+            return ps;
+        });
     }
 
+    /**
+     * Lecture depuis la projection account_balances (alimentée par append).
+     * Somme des shards : une seule ligne pour les comptes titulaires, au plus N pour les comptes SYSTEM.
+     */
     @Override
     @Transactional(readOnly = true)
     public Money netBalance(LedgerAccountRef account) {
-        BigDecimal balance = repo.netBalance(account.type().name(), account.ownerRef());
+        BigDecimal balance = (BigDecimal) em.createNativeQuery("""
+                SELECT COALESCE(SUM(balance), 0)
+                FROM account_balances
+                WHERE account_type = ?1 AND owner_ref = ?2
+                """)
+                .setParameter(1, account.type().name())
+                .setParameter(2, account.ownerRef())
+                .getSingleResult();
         return Money.of(balance);
     }
 
@@ -65,31 +301,34 @@ public class JpaLedgerAdapter implements LedgerAppendPort, LedgerQueryPort {
     @Transactional(readOnly = true)
     public List<LedgerEntry> findByTransactionId(TransactionId transactionId) {
 
-        return repo.findByTransactionIdOrderByCreatedAtAscIdAsc(transactionId.value())
+        return repo.findRoutedByTransactionId(transactionId.value())
                 .stream()
                 .map(this::toDomain)
                 .toList();
     }
 
+    /**
+     * Consultation (solde, historique) : lue via le template côté query, donc sur le replica
+     * quand il est configuré et à jour ; sur le primaire dans une transaction en écriture.
+     */
     @Override
-    @Transactional(readOnly = true)
     public List<LedgerEntry> findEntries(LedgerAccountRef account) {
-        return repo.findByAccountTypeAndOwnerRefOrderByCreatedAtAscIdAsc(
-                        account.type().name(),
-                        account.ownerRef()
-                )
-                .stream()
-                .map(this::toDomain)
-                .toList();
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<TransactionId> findInconsistentTransactionIds() {
-        return repo.findInconsistentTransactionIds()
-                .stream()
-                .map(TransactionId::new)
-                .toList();
+        return queryJdbcTemplate.query("""
+                        SELECT id, transaction_id, account_type, owner_ref, entry_type, amount
+                        FROM ledger_entries
+                        WHERE account_type = :accountType AND owner_ref = :ownerRef
+                        ORDER BY created_at ASC, id ASC
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("accountType", account.type().name())
+                        .addValue("ownerRef", account.ownerRef()),
+                (rs, rowNum) -> new LedgerEntry(
+                        rs.getString("id"),
+                        new TransactionId(rs.getObject("transaction_id", UUID.class)),
+                        LedgerAccountRef.of(rs.getString("account_type"), rs.getString("owner_ref")),
+                        LedgerEntryType.valueOf(rs.getString("entry_type")),
+                        Money.of(rs.getBigDecimal("amount"))
+                ));
     }
 
     @Override
@@ -110,19 +349,199 @@ public class JpaLedgerAdapter implements LedgerAppendPort, LedgerQueryPort {
         return Money.of(debits);
     }
 
+    /**
+     * Lecture des compteurs journaliers account_spend_counters : une ligne par jour de la plage.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Money sumDebitsByTransactionTypeAndDays(
+            LedgerAccountRef account,
+            TransactionType transactionType,
+            LocalDate fromInclusive,
+            LocalDate toExclusive
+    ) {
+        BigDecimal debits = (BigDecimal) em.createNativeQuery("""
+                SELECT COALESCE(SUM(debited), 0)
+                FROM account_spend_counters
+                WHERE account_type = ?1 AND owner_ref = ?2 AND transaction_type = ?3
+                  AND day >= ?4 AND day < ?5
+                """)
+                .setParameter(1, account.type().name())
+                .setParameter(2, account.ownerRef())
+                .setParameter(3, transactionType.name())
+                .setParameter(4, fromInclusive)
+                .setParameter(5, toExclusive)
+                .getSingleResult();
+        return Money.of(debits);
+    }
 
-    // Mapping
-    private LedgerEntryEntity toEntity(LedgerEntry e) {
-        return new LedgerEntryEntity(
-                UUID.fromString(e.id()),
-                e.transactionId().value(),
-                e.accountRef().type().name(),
-                e.accountRef().ownerRef(),
-                e.type().name(),
-                e.amount().asBigDecimal()
-        );
+
+    /**
+     * Met à jour la projection account_balances dans la transaction de l'append.
+     * Deltas agrégés par (compte, shard), appliqués dans un ordre stable
+     * pour éviter les deadlocks entre appends concurrents.
+     * Les comptes SYSTEM (frais, clearing...) sont crédités par quasiment chaque opération :
+     * leur delta part sur un shard choisi par transaction id pour ne pas sérialiser sur une ligne.
+     */
+    private TreeMap<String, BalanceDelta> balanceDeltas(List<LedgerEntry> entries) {
+        TreeMap<String, BalanceDelta> deltas = new TreeMap<>();
+        for (LedgerEntry e : entries) {
+            BigDecimal signed = e.type() == LedgerEntryType.CREDIT
+                    ? e.amount().asBigDecimal()
+                    : e.amount().asBigDecimal().negate();
+            int shard = shardOf(e);
+            deltas.merge(
+                    deltaKey(e.accountRef(), shard),
+                    new BalanceDelta(e.accountRef(), shard, signed),
+                    (a, b) -> new BalanceDelta(a.account(), a.shard(), a.amount().add(b.amount()))
+            );
+        }
+        return deltas;
+    }
+
+    private int shardOf(LedgerEntry e) {
+        return e.accountRef().isSystemAccount()
+                ? Math.floorMod(e.transactionId().value().hashCode(), systemAccountShards)
+                : 0;
     }
 
+    private static String deltaKey(LedgerAccountRef account, int shard) {
+        return account.type().name() + '|' + account.ownerRef() + '|' + shard;
+    }
+
+    private void upsertBalanceDeltas(Collection<BalanceDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO account_balances (account_type, owner_ref, shard, balance, updated_at) VALUES ");
+        for (int i = 0; i < deltas.size(); i++) {
+            if (i > 0) sql.append(", ");
+            int p = 4 * i;
+            sql.append("(?").append(p + 1)
+                    .append(", ?").append(p + 2)
+                    .append(", ?").append(p + 3)
+                    .append(", ?").append(p + 4)
+                    .append(", now())");
+        }
+        sql.append("""
+                 ON CONFLICT (account_type, owner_ref, shard) DO UPDATE
+                    SET balance = account_balances.balance + EXCLUDED.balance,
+                        updated_at = EXCLUDED.updated_at
+                """);
+
+        Query query = em.createNativeQuery(sql.toString());
+        int p = 0;
+        for (BalanceDelta d : deltas) {
+            query.setParameter(++p, d.account().type().name());
+            query.setParameter(++p, d.account().ownerRef());
+            query.setParameter(++p, (short) d.shard());
+            query.setParameter(++p, d.amount());
+        }
+        query.executeUpdate();
+    }
+
+    /**
+     * delta négatif : balance + delta >= 0, soit balance >= montant débité.
+     * Retourne le nouveau solde (RETURNING), vide si aucune ligne n'est mise à jour.
+     */
+    private Optional<BigDecimal> debitIfSufficient(BalanceDelta delta) {
+        List<?> updated = em.createNativeQuery("""
+                UPDATE account_balances
+                SET balance = balance + ?1, updated_at = now()
+                WHERE account_type = ?2 AND owner_ref = ?3 AND shard = ?4
+                  AND balance + ?1 >= 0
+                RETURNING balance
+                """)
+                .setParameter(1, delta.amount())
+                .setParameter(2, delta.account().type().name())
+                .setParameter(3, delta.account().ownerRef())
+                .setParameter(4, (short) delta.shard())
+                .getResultList();
+        return updated.stream().findFirst().map(BigDecimal.class::cast);
+    }
+
+    private record BalanceDelta(LedgerAccountRef account, int shard, BigDecimal amount) {
+    }
+
+    /**
+     * Transactions des écritures comptées dans account_spend_counters (débits titulaires), via le persistence context :
+     * rien à relire pour les finalisations (payout, refund) qui ne débitent que des comptes SYSTEM.
+     */
+    private Map<UUID, TransactionEntity> findTransactions(List<LedgerEntry> entries) {
+        Map<UUID, TransactionEntity> transactions = new HashMap<>();
+        for (LedgerEntry e : entries) {
+            if (countsAsSpend(e)) {
+                transactions.computeIfAbsent(e.transactionId().value(), id -> em.find(TransactionEntity.class, id));
+            }
+        }
+        return transactions;
+    }
+
+    private static boolean countsAsSpend(LedgerEntry e) {
+        return e.type() == LedgerEntryType.DEBIT && !e.accountRef().isSystemAccount();
+    }
+
+    /**
+     * Cumule les débits des comptes titulaires dans account_spend_counters,
+     * par type et jour UTC de la transaction (même sémantique que sumDebitsByTypeAndPeriod).
+     */
+    private void applySpendCounters(List<LedgerEntry> entries, Map<UUID, TransactionEntity> transactions) {
+        Map<String, SpendDelta> deltas = new TreeMap<>();
+        for (LedgerEntry e : entries) {
+            if (!countsAsSpend(e)) {
+                continue;
+            }
+            TransactionEntity tx = transactions.get(e.transactionId().value());
+            if (tx == null) {
+                continue;
+            }
+            LocalDate day = tx.getCreatedAt().atZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+            deltas.merge(
+                    e.accountRef().type().name() + '|' + e.accountRef().ownerRef() + '|' + tx.getType() + '|' + day,
+                    new SpendDelta(e.accountRef(), tx.getType(), day, e.amount().asBigDecimal()),
+                    (a, b) -> new SpendDelta(a.account(), a.transactionType(), a.day(), a.amount().add(b.amount()))
+            );
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO account_spend_counters (account_type, owner_ref, transaction_type, day, debited, updated_at) VALUES ");
+        for (int i = 0; i < deltas.size(); i++) {
+            if (i > 0) sql.append(", ");
+            int p = 5 * i;
+            sql.append("(?").append(p + 1)
+                    .append(", ?").append(p + 2)
+                    .append(", ?").append(p + 3)
+                    .append(", ?").append(p + 4)
+                    .append(", ?").append(p + 5)
+                    .append(", now())");
+        }
+        sql.append("""
+                 ON CONFLICT (account_type, owner_ref, transaction_type, day) DO UPDATE
+                    SET debited = account_spend_counters.debited + EXCLUDED.debited,
+                        updated_at = EXCLUDED.updated_at
+                """);
+
+        Query query = em.createNativeQuery(sql.toString());
+        int p = 0;
+        for (SpendDelta d : deltas.values()) {
+            query.setParameter(++p, d.account().type().name());
+            query.setParameter(++p, d.account().ownerRef());
+            query.setParameter(++p, d.transactionType());
+            query.setParameter(++p, d.day());
+            query.setParameter(++p, d.amount());
+        }
+        query.executeUpdate();
+    }
+
+    private record SpendDelta(LedgerAccountRef account, String transactionType, LocalDate day, BigDecimal amount) {
+    }
+
+    // Mapping
     private LedgerEntry toDomain(LedgerEntryEntity e) {
         return new LedgerEntry(
                 e.getId().toString(),
@@ -0,0 +1,151 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.application.port.out.LedgerConsistencyCheckPort;
+import com.kori.domain.model.transaction.TransactionId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Contrôle de cohérence par lots : parcours de ledger_entries en keyset (created_at, id) depuis
+ * le curseur persisté, puis vérification partie double des seules transactions du lot.
+ * Le curseur est verrouillé (FOR UPDATE SKIP LOCKED) le temps du lot : un seul nœud avance à la fois.
+ */
+@Component
+public class JpaLedgerConsistencyAdapter implements LedgerConsistencyCheckPort {
+
+    private static final OffsetDateTime START_CREATED_AT = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final UUID START_ENTRY_ID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaLedgerConsistencyAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+    }
+
+    @Override
+    @Transactional
+    public Optional<ChunkResult> checkNextChunk(String checkpoint, Instant upperBoundExclusive, int chunkSize) {
+        List<Cursor> cursors = jdbcTemplate.query("""
+                        SELECT cursor_created_at, cursor_entry_id
+                        FROM ledger_consistency_checkpoints
+                        WHERE name = ?
+                        FOR UPDATE SKIP LOCKED
+                        """,
+                (rs, i) -> new Cursor(rs.getObject(1, OffsetDateTime.class), rs.getObject(2, UUID.class)),
+                checkpoint
+        );
+        if (cursors.isEmpty()) {
+            return Optional.empty();
+        }
+        Cursor cursor = cursors.get(0);
+
+        // created_at >= curseur : prédicat simple pour l'élagage des partitions et l'index idx_ledger_created_at
+        List<Row> rows = jdbcTemplate.query("""
+                        SELECT created_at, id, transaction_id
+                        FROM ledger_entries
+                        WHERE created_at >= ?
+                          AND (created_at, id) > (?, ?)
+                          AND created_at < ?
+                        ORDER BY created_at, id
+                        LIMIT ?
+                        """,
+                (rs, i) -> new Row(
+                        rs.getObject(1, OffsetDateTime.class),
+                        rs.getObject(2, UUID.class),
+                        rs.getObject(3, UUID.class)
+                ),
+                cursor.createdAt(),
+                cursor.createdAt(),
+                cursor.entryId(),
+                upperBoundExclusive.atOffset(ZoneOffset.UTC),
+                chunkSize
+        );
+        if (rows.isEmpty()) {
+            touch(checkpoint);
+            return Optional.of(new ChunkResult(0, List.of(), true));
+        }
+
+        Set<UUID> transactionIds = new LinkedHashSet<>();
+        rows.forEach(r -> transactionIds.add(r.transactionId()));
+
+        // Borne created_at tirée de transaction_ids (même marge que la lecture par transaction) :
+        // seules les partitions depuis la plus ancienne transaction du lot sont lues
+        List<TransactionId> inconsistent = jdbcTemplate.query(connection -> {
+                    var ps = connection.prepareStatement("""
+                            SELECT transaction_id
+                            FROM ledger_entries
+                            WHERE transaction_id = ANY (?)
+                              AND created_at >= COALESCE(
+                                    (SELECT min(k.created_at) - interval '1 day' FROM transaction_ids k WHERE k.id = ANY (?)),
+                                    '-infinity')
+                            GROUP BY transaction_id
+                            HAVING
+                              COALESCE(SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE 0 END), 0)
+                                <> COALESCE(SUM(CASE WHEN entry_type = 'DEBIT' THEN amount ELSE 0 END), 0)
+                              OR COUNT(*) FILTER (WHERE entry_type = 'CREDIT') = 0
+                              OR COUNT(*) FILTER (WHERE entry_type = 'DEBIT') = 0
+                            """);
+                    var ids = connection.createArrayOf("uuid", transactionIds.toArray());
+                    ps.setArray(1, ids);
+                    ps.setArray(2, ids);
+                    return ps;
+                },
+                (rs, i) -> new TransactionId(rs.getObject(1, UUID.class))
+        );
+
+        Row last = rows.get(rows.size() - 1);
+        jdbcTemplate.update("""
+                        UPDATE ledger_consistency_checkpoints
+                        SET cursor_created_at = ?, cursor_entry_id = ?, updated_at = ?
+                        WHERE name = ?
+                        """,
+                last.createdAt(),
+                last.id(),
+                Timestamp.from(Instant.now()),
+                checkpoint
+        );
+
+        return Optional.of(new ChunkResult(rows.size(), inconsistent, rows.size() < chunkSize));
+    }
+
+    @Override
+    @Transactional
+    public void resetCheckpoint(String checkpoint) {
+        jdbcTemplate.update("""
+                        UPDATE ledger_consistency_checkpoints
+                        SET cursor_created_at = ?, cursor_entry_id = ?, updated_at = ?
+                        WHERE name = ?
+                        """,
+                START_CREATED_AT,
+                START_ENTRY_ID,
+                Timestamp.from(Instant.now()),
+                checkpoint
+        );
+    }
+
+    private void touch(String checkpoint) {
+        jdbcTemplate.update(
+                "UPDATE ledger_consistency_checkpoints SET updated_at = ? WHERE name = ?",
+                Timestamp.from(Instant.now()),
+                checkpoint
+        );
+    }
+
+    private record Cursor(OffsetDateTime createdAt, UUID entryId) {
+    }
+
+    private record Row(OffsetDateTime createdAt, UUID id, UUID transactionId) {
+    }
+}
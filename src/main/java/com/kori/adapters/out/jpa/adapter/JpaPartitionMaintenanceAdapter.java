@@ -0,0 +1,200 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.application.port.out.PartitionMaintenancePort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Création des partitions de range (UTC) :
+ * - journalières pour audit_events : audit_events_pYYYYMMDD ;
+ * - mensuelles pour transactions et ledger_entries : &lt;table&gt;_pYYYYMM.
+ * Une période déjà présente dans la partition DEFAULT n'est pas créée (PostgreSQL le refuserait) :
+ * ses lignes restent dans DEFAULT.
+ */
+@Component
+public class JpaPartitionMaintenanceAdapter implements PartitionMaintenancePort {
+
+    private static final Logger log = LoggerFactory.getLogger(JpaPartitionMaintenanceAdapter.class);
+    static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    static final DateTimeFormatter MONTHLY_PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    static final List<String> LEDGER_TABLES = List.of("transactions", "ledger_entries");
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public JpaPartitionMaintenanceAdapter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager, "transactionManager"));
+    }
+
+    @Override
+    @Transactional
+    public void ensureAuditEventPartitions(LocalDate fromInclusive, LocalDate toExclusive) {
+        for (LocalDate day = fromInclusive; day.isBefore(toExclusive); day = day.plusDays(1)) {
+            ensurePartition(
+                    "audit_events",
+                    "occurred_at",
+                    day.format(PARTITION_SUFFIX),
+                    day.atStartOfDay().atOffset(ZoneOffset.UTC),
+                    day.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC)
+            );
+        }
+    }
+
+    @Override
+    @Transactional
+    public void ensureLedgerPartitions(YearMonth fromInclusive, YearMonth toExclusive) {
+        for (YearMonth month = fromInclusive; month.isBefore(toExclusive); month = month.plusMonths(1)) {
+            for (String table : LEDGER_TABLES) {
+                ensurePartition(
+                        table,
+                        "created_at",
+                        month.format(MONTHLY_PARTITION_SUFFIX),
+                        month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC),
+                        month.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC)
+                );
+            }
+        }
+    }
+
+    /**
+     * SET TABLESPACE réécrit la partition sous verrou exclusif : une transaction par partition avec
+     * lock_timeout court. Une partition verrouillée est ignorée et retentée au passage suivant,
+     * sans annuler les déplacements déjà faits.
+     */
+    @Override
+    public int archiveLedgerPartitionsBefore(YearMonth cutoffExclusive, String tablespace) {
+        List<String> partitions = transactionTemplate.execute(status -> archivablePartitions(cutoffExclusive, tablespace));
+        if (partitions == null) {
+            log.warn("Archive tablespace {} does not exist, skipping partition archiving.", tablespace);
+            return 0;
+        }
+
+        int moved = 0;
+        for (String partition : partitions) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> movePartition(partition, tablespace));
+            } catch (RuntimeException e) {
+                if (!isLockTimeout(e)) {
+                    throw e;
+                }
+                log.warn("Partition {} is locked, move to tablespace {} skipped until next run.", partition, tablespace);
+                continue;
+            }
+            log.info("Moved partition {} to tablespace {}.", partition, tablespace);
+            moved++;
+        }
+        return moved;
+    }
+
+    /**
+     * Partitions mensuelles antérieures au cutoff pas encore dans le tablespace ; null si le tablespace n'existe pas.
+     */
+    private List<String> archivablePartitions(YearMonth cutoffExclusive, String tablespace) {
+        if (em.createNativeQuery("SELECT 1 FROM pg_tablespace WHERE spcname = ?1")
+                .setParameter(1, tablespace)
+                .getResultList()
+                .isEmpty()) {
+            return null;
+        }
+
+        List<String> partitions = new ArrayList<>();
+        for (String table : LEDGER_TABLES) {
+            @SuppressWarnings("unchecked")
+            List<String> tablePartitions = em.createNativeQuery("""
+                            SELECT c.relname
+                            FROM pg_inherits i
+                            JOIN pg_class c ON c.oid = i.inhrelid
+                            LEFT JOIN pg_tablespace ts ON ts.oid = c.reltablespace
+                            WHERE i.inhparent = CAST(?1 AS regclass)
+                              AND c.relname ~ ('^' || ?1 || '_p[0-9]{6}$')
+                              AND right(c.relname, 6) < ?2
+                              AND COALESCE(ts.spcname, '') <> ?3
+                            ORDER BY c.relname
+                            """)
+                    .setParameter(1, table)
+                    .setParameter(2, cutoffExclusive.format(MONTHLY_PARTITION_SUFFIX))
+                    .setParameter(3, tablespace)
+                    .getResultList();
+            partitions.addAll(tablePartitions);
+        }
+        return partitions;
+    }
+
+    private void movePartition(String partition, String tablespace) {
+        em.createNativeQuery("SET LOCAL lock_timeout = '5s'").executeUpdate();
+        em.createNativeQuery("ALTER TABLE " + partition + " SET TABLESPACE " + tablespace).executeUpdate();
+
+        @SuppressWarnings("unchecked")
+        List<String> indexes = em.createNativeQuery("""
+                        SELECT c.relname
+                        FROM pg_index x
+                        JOIN pg_class c ON c.oid = x.indexrelid
+                        WHERE x.indrelid = CAST(?1 AS regclass)
+                        """)
+                .setParameter(1, partition)
+                .getResultList();
+        for (String index : indexes) {
+            em.createNativeQuery("ALTER INDEX " + index + " SET TABLESPACE " + tablespace).executeUpdate();
+        }
+    }
+
+    private void ensurePartition(String table, String column, String suffix, OffsetDateTime from, OffsetDateTime to) {
+        String partition = table + "_p" + suffix;
+        if (partitionExists(partition)) {
+            return;
+        }
+
+        boolean inDefault = !em.createNativeQuery(
+                        "SELECT 1 FROM " + table + "_default WHERE " + column + " >= ?1 AND " + column + " < ?2 LIMIT 1")
+                .setParameter(1, from)
+                .setParameter(2, to)
+                .getResultList()
+                .isEmpty();
+        if (inDefault) {
+            log.warn("Partition {} not created: rows for [{}, {}) already in {}_default.", partition, from, to, table);
+            return;
+        }
+
+        em.createNativeQuery("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table
+                        + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')")
+                .executeUpdate();
+        log.info("Created partition {}.", partition);
+    }
+
+    /**
+     * lock_not_available (55P03) : lock_timeout atteint, quelle que soit l'exception qui l'enveloppe.
+     */
+    static boolean isLockTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && "55P03".equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean partitionExists(String partition) {
+        return !em.createNativeQuery("SELECT 1 FROM pg_class WHERE relname = ?1 AND relkind = 'r'")
+                .setParameter(1, partition)
+                .getResultList()
+                .isEmpty();
+    }
+}
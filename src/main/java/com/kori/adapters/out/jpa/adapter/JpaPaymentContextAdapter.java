@@ -0,0 +1,151 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.application.port.out.PaymentContextReadPort;
+import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.ledger.LedgerAccountType;
+import com.kori.domain.model.account.AccountProfile;
+import com.kori.domain.model.card.Card;
+import com.kori.domain.model.card.CardId;
+import com.kori.domain.model.card.CardStatus;
+import com.kori.domain.model.card.HashedPin;
+import com.kori.domain.model.client.Client;
+import com.kori.domain.model.client.ClientCode;
+import com.kori.domain.model.client.ClientId;
+import com.kori.domain.model.client.PhoneNumber;
+import com.kori.domain.model.common.DisplayName;
+import com.kori.domain.model.common.Status;
+import com.kori.domain.model.merchant.Merchant;
+import com.kori.domain.model.merchant.MerchantCode;
+import com.kori.domain.model.merchant.MerchantId;
+import com.kori.domain.model.terminal.Terminal;
+import com.kori.domain.model.terminal.TerminalId;
+import com.kori.domain.model.terminal.TerminalUid;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+public class JpaPaymentContextAdapter implements PaymentContextReadPort {
+
+    /**
+     * Ligne unique construite sur les deux clés : chaque jointure est externe, un élément absent
+     * donne des colonnes nulles sans masquer les autres. Index utilisés : terminals.terminal_uid,
+     * cards.card_uid, clés primaires merchants / clients / account_profiles.
+     */
+    private static final String PAY_BY_CARD_CONTEXT_SQL = """
+            SELECT t.id AS t_id, t.terminal_uid AS t_uid, t.merchant_id AS t_merchant_id,
+                   t.display_name AS t_display_name, t.status AS t_status, t.created_at AS t_created_at,
+                   m.id AS m_id, m.code AS m_code, m.display_name AS m_display_name,
+                   m.status AS m_status, m.created_at AS m_created_at,
+                   mp.status AS mp_status, mp.created_at AS mp_created_at,
+                   c.id AS c_id, c.client_id AS c_client_id, c.card_uid AS c_uid, c.hashed_pin AS c_hashed_pin,
+                   c.status AS c_status, c.failed_pin_attempts AS c_failed_pin_attempts, c.created_at AS c_created_at,
+                   cl.id AS cl_id, cl.code AS cl_code, cl.phone_number AS cl_phone_number,
+                   cl.display_name AS cl_display_name, cl.status AS cl_status, cl.created_at AS cl_created_at,
+                   cp.status AS cp_status, cp.created_at AS cp_created_at
+            FROM (SELECT ?::varchar AS terminal_uid, ?::varchar AS card_uid) k
+            LEFT JOIN terminals t ON t.terminal_uid = k.terminal_uid
+            LEFT JOIN merchants m ON m.id = t.merchant_id
+            LEFT JOIN account_profiles mp ON mp.account_type = ? AND mp.owner_ref = m.id::text
+            LEFT JOIN cards c ON c.card_uid = k.card_uid
+            LEFT JOIN clients cl ON cl.id = c.client_id
+            LEFT JOIN account_profiles cp ON cp.account_type = ? AND cp.owner_ref = cl.id::text
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaPaymentContextAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+    }
+
+    @Override
+    public PayByCardContext loadPayByCardContext(TerminalUid terminalUid, String cardUid) {
+        return jdbcTemplate.queryForObject(
+                PAY_BY_CARD_CONTEXT_SQL,
+                (rs, rowNum) -> toContext(rs),
+                terminalUid.value(),
+                cardUid,
+                LedgerAccountType.MERCHANT.name(),
+                LedgerAccountType.CLIENT.name()
+        );
+    }
+
+    private PayByCardContext toContext(ResultSet rs) throws SQLException {
+        Terminal terminal = null;
+        if (rs.getObject("t_id") != null) {
+            terminal = new Terminal(
+                    new TerminalId(rs.getObject("t_id", UUID.class)),
+                    TerminalUid.of(rs.getString("t_uid")),
+                    new MerchantId(rs.getObject("t_merchant_id", UUID.class)),
+                    DisplayName.ofNullable(rs.getString("t_display_name")),
+                    Status.valueOf(rs.getString("t_status")),
+                    instant(rs, "t_created_at")
+            );
+        }
+
+        Merchant merchant = null;
+        AccountProfile merchantAccount = null;
+        if (rs.getObject("m_id") != null) {
+            merchant = new Merchant(
+                    new MerchantId(rs.getObject("m_id", UUID.class)),
+                    MerchantCode.of(rs.getString("m_code")),
+                    DisplayName.ofNullable(rs.getString("m_display_name")),
+                    Status.valueOf(rs.getString("m_status")),
+                    instant(rs, "m_created_at")
+            );
+            if (rs.getString("mp_status") != null) {
+                merchantAccount = new AccountProfile(
+                        LedgerAccountRef.merchant(merchant.id().value().toString()),
+                        instant(rs, "mp_created_at"),
+                        Status.valueOf(rs.getString("mp_status"))
+                );
+            }
+        }
+
+        Card card = null;
+        if (rs.getObject("c_id") != null) {
+            card = new Card(
+                    new CardId(rs.getObject("c_id", UUID.class)),
+                    new ClientId(rs.getObject("c_client_id", UUID.class)),
+                    rs.getString("c_uid"),
+                    new HashedPin(rs.getString("c_hashed_pin")),
+                    CardStatus.valueOf(rs.getString("c_status")),
+                    rs.getInt("c_failed_pin_attempts"),
+                    instant(rs, "c_created_at")
+            );
+        }
+
+        Client client = null;
+        AccountProfile clientAccount = null;
+        if (rs.getObject("cl_id") != null) {
+            client = new Client(
+                    new ClientId(rs.getObject("cl_id", UUID.class)),
+                    ClientCode.of(rs.getString("cl_code")),
+                    PhoneNumber.of(rs.getString("cl_phone_number")),
+                    DisplayName.ofNullable(rs.getString("cl_display_name")),
+                    Status.valueOf(rs.getString("cl_status")),
+                    instant(rs, "cl_created_at")
+            );
+            if (rs.getString("cp_status") != null) {
+                clientAccount = new AccountProfile(
+                        LedgerAccountRef.client(client.id().value().toString()),
+                        instant(rs, "cp_created_at"),
+                        Status.valueOf(rs.getString("cp_status"))
+                );
+            }
+        }
+
+        return new PayByCardContext(terminal, merchant, merchantAccount, card, client, clientAccount);
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+}
@@ -3,6 +3,7 @@ package com.kori.adapters.out.jpa.adapter;
 import com.kori.adapters.out.jpa.entity.PlatformConfigEntity;
 import com.kori.adapters.out.jpa.repo.PlatformConfigJpaRepository;
 import com.kori.application.port.out.PlatformConfigPort;
+import com.kori.domain.model.config.ConfigType;
 import com.kori.domain.model.config.PlatformConfig;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,15 +17,17 @@ public class JpaPlatformConfigAdapter implements PlatformConfigPort {
     private static final int CONFIG_ID = 1;
 
     private final PlatformConfigJpaRepository repo;
+    private final JpaConfigCacheAdapter configCache;
 
-    public JpaPlatformConfigAdapter(PlatformConfigJpaRepository repo) {
+    public JpaPlatformConfigAdapter(PlatformConfigJpaRepository repo, JpaConfigCacheAdapter configCache) {
         this.repo = Objects.requireNonNull(repo);
+        this.configCache = Objects.requireNonNull(configCache);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<PlatformConfig> get() {
-        return repo.findById(CONFIG_ID)
+        return configCache.get(ConfigType.PLATFORM, () -> repo.findById(CONFIG_ID)
                 .map(cfg -> new PlatformConfig(
                         cfg.getAgentCashLimitGlobal(),
                         cfg.getClientTransferMinPerTransaction(),
@@ -34,7 +37,7 @@ public class JpaPlatformConfigAdapter implements PlatformConfigPort {
                         cfg.getMerchantTransferMaxPerTransaction(),
                         cfg.getMerchantTransferDailyMax(),
                         cfg.getMerchantWithdrawMinPerTransaction()
-                ));
+                )));
     }
 
     @Override
@@ -0,0 +1,84 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.application.port.out.TerminalActivityPort;
+import com.kori.domain.model.terminal.TerminalUid;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Activité des terminaux : coalescée en mémoire (dernier instant par terminal),
+ * écrite par lots dans terminal_activity au flush. Une perte au crash ne coûte que quelques secondes de "last seen".
+ */
+@Component
+public class JpaTerminalActivityAdapter implements TerminalActivityPort {
+
+    private static final Logger log = LoggerFactory.getLogger(JpaTerminalActivityAdapter.class);
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO terminal_activity (terminal_uid, last_seen_at)
+            VALUES (?, ?)
+            ON CONFLICT (terminal_uid) DO UPDATE
+               SET last_seen_at = GREATEST(terminal_activity.last_seen_at, EXCLUDED.last_seen_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Instant> pending = new ConcurrentHashMap<>();
+
+    public JpaTerminalActivityAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+    }
+
+    @Override
+    public void recordActivity(TerminalUid terminalUid, Instant seenAt) {
+        pending.merge(terminalUid.value(), seenAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    @Override
+    public int flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (String terminalUid : pending.keySet()) {
+            Instant seenAt = pending.remove(terminalUid);
+            if (seenAt != null) {
+                batch.add(new Object[]{terminalUid, Timestamp.from(seenAt)});
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            return batch.size();
+        } catch (RuntimeException e) {
+            // Lot en échec : écriture ligne à ligne, une ligne en échec est abandonnée (pas remise en file)
+            // pour ne pas bloquer les autres terminaux à chaque flush
+            log.warn("Terminal activity batch failed, retrying row by row: {}", e.getMessage());
+            int written = 0;
+            for (Object[] row : batch) {
+                try {
+                    jdbcTemplate.update(UPSERT_SQL, row);
+                    written++;
+                } catch (RuntimeException rowError) {
+                    log.warn("Terminal activity dropped for {}: {}", row[0], rowError.getMessage());
+                }
+            }
+            return written;
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,25 +1,27 @@
 package com.kori.adapters.out.jpa.adapter;
 
-import com.kori.adapters.out.jpa.entity.TransactionEntity;
 import com.kori.adapters.out.jpa.repo.TransactionJpaRepository;
 import com.kori.application.port.out.TransactionRepositoryPort;
 import com.kori.domain.model.common.Money;
 import com.kori.domain.model.transaction.Transaction;
 import com.kori.domain.model.transaction.TransactionId;
 import com.kori.domain.model.transaction.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.ZoneOffset;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 @Component
 public class JpaTransactionRepositoryAdapter implements TransactionRepositoryPort {
 
     private final TransactionJpaRepository repo;
 
+    @PersistenceContext
+    private EntityManager em;
+
     public JpaTransactionRepositoryAdapter(TransactionJpaRepository repo) {
         this.repo = Objects.requireNonNull(repo);
     }
@@ -27,25 +29,14 @@ public class JpaTransactionRepositoryAdapter implements TransactionRepositoryPor
     @Override
     @Transactional
     public Transaction save(Transaction transaction) {
-        UUID id = transaction.id().value();
-        UUID original = transaction.originalTransactionId() == null ? null : transaction.originalTransactionId().value();
-
-        TransactionEntity entity = new TransactionEntity(
-                id,
-                transaction.type().name(),
-                transaction.amount().asBigDecimal(),
-                transaction.createdAt().atOffset(ZoneOffset.UTC),
-                original
-        );
-
-        repo.save(entity);
+        TransactionRows.insert(em, transaction, null, TransactionRows.Counterparties.NONE);
         return transaction;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Transaction> findById(TransactionId transactionId) {
-        return repo.findById(transactionId.value()).map(e ->
+        return repo.findRoutedById(transactionId.value()).map(e ->
                 new Transaction(
                         TransactionId.of(e.getId().toString()),
                         TransactionType.valueOf(e.getType()),
@@ -57,10 +48,11 @@ public class JpaTransactionRepositoryAdapter implements TransactionRepositoryPor
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsReversalFor(TransactionId originalTransactionId) {
-        return repo.existsByTypeAndOriginalTransactionId(
-                "REVERSAL",
-                originalTransactionId.value()
-        );
+        return !em.createNativeQuery("SELECT 1 FROM transaction_reversals WHERE original_transaction_id = ?1")
+                .setParameter(1, originalTransactionId.value())
+                .getResultList()
+                .isEmpty();
     }
 }
@@ -0,0 +1,122 @@
+package com.kori.adapters.out.jpa.adapter;
+
+import com.kori.adapters.out.jpa.entity.TransactionEntity;
+import com.kori.application.port.out.LedgerAppendPort.TransactionContext;
+import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.ledger.LedgerEntry;
+import com.kori.domain.model.transaction.Transaction;
+import com.kori.domain.model.transaction.TransactionType;
+import jakarta.persistence.EntityManager;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Insertion d'une ligne transactions, partagée par le repository et le ledger.
+ * persist et non merge : l'id est attribué par l'application, un merge relirait d'abord la ligne par id.
+ * Les contreparties sont connues avant l'insertion : un seul INSERT, pas d'UPDATE au flush.
+ * transaction_ids garde l'unicité de l'id et le routage des lectures par id vers la partition ;
+ * transaction_context le contexte d'initiation (acteur, terminal, carte) lu par le backoffice.
+ */
+final class TransactionRows {
+
+    private TransactionRows() {
+    }
+
+    static TransactionEntity insert(EntityManager em,
+                                    Transaction transaction,
+                                    TransactionContext context,
+                                    Counterparties counterparties) {
+        UUID id = transaction.id().value();
+        UUID original = transaction.originalTransactionId() == null ? null : transaction.originalTransactionId().value();
+
+        TransactionEntity entity = new TransactionEntity(
+                id,
+                transaction.type().name(),
+                transaction.amount().asBigDecimal(),
+                transaction.createdAt().atOffset(ZoneOffset.UTC),
+                original,
+                counterparties.merchantId(),
+                counterparties.agentId(),
+                counterparties.clientId()
+        );
+        em.persist(entity);
+        em.createNativeQuery("INSERT INTO transaction_ids (id, created_at) VALUES (?1, ?2)")
+                .setParameter(1, id)
+                .setParameter(2, entity.getCreatedAt())
+                .executeUpdate();
+        if (context != null) {
+            insertContext(em, id, context, entity.getCreatedAt());
+        }
+
+        if (transaction.type() == TransactionType.REVERSAL && original != null) {
+            guardReversal(em, original, id);
+        }
+        return entity;
+    }
+
+    static void insertContext(EntityManager em, UUID transactionId, TransactionContext context, OffsetDateTime createdAt) {
+        em.createNativeQuery("""
+                        INSERT INTO transaction_context (transaction_id, terminal_uid, card_uid, actor_type, actor_ref, created_at)
+                        VALUES (?1, ?2, ?3, ?4, ?5, ?6)
+                        """)
+                .setParameter(1, transactionId)
+                .setParameter(2, context.terminalUid() == null ? null : context.terminalUid().value())
+                .setParameter(3, context.cardUid())
+                .setParameter(4, context.actorType().name())
+                .setParameter(5, context.actorRef())
+                .setParameter(6, createdAt)
+                .executeUpdate();
+    }
+
+    /**
+     * merchant_id / agent_id / client_id : dernière écriture MERCHANT / AGENT_WALLET / CLIENT de la transaction
+     * (même règle que le backfill V37 et kori_post_guarded_v1).
+     */
+    static Counterparties counterparties(Transaction transaction, List<LedgerEntry> entries) {
+        UUID merchantId = null;
+        UUID agentId = null;
+        UUID clientId = null;
+        for (LedgerEntry e : entries) {
+            if (!e.transactionId().equals(transaction.id())) {
+                continue;
+            }
+            switch (e.accountRef().type()) {
+                case MERCHANT -> merchantId = parseOwnerId(e.accountRef(), merchantId);
+                case AGENT_WALLET -> agentId = parseOwnerId(e.accountRef(), agentId);
+                case CLIENT -> clientId = parseOwnerId(e.accountRef(), clientId);
+                default -> {
+                }
+            }
+        }
+        return new Counterparties(merchantId, agentId, clientId);
+    }
+
+    private static UUID parseOwnerId(LedgerAccountRef account, UUID current) {
+        try {
+            return UUID.fromString(account.ownerRef());
+        } catch (IllegalArgumentException e) {
+            return current;
+        }
+    }
+
+    /**
+     * Une seule reversal par transaction d'origine : transactions étant partitionnée, l'unicité
+     * passe par transaction_reversals (violation de PK si une reversal existe déjà).
+     */
+    private static void guardReversal(EntityManager em, UUID originalTransactionId, UUID reversalTransactionId) {
+        em.createNativeQuery("""
+                        INSERT INTO transaction_reversals (original_transaction_id, reversal_transaction_id)
+                        VALUES (?1, ?2)
+                        """)
+                .setParameter(1, originalTransactionId)
+                .setParameter(2, reversalTransactionId)
+                .executeUpdate();
+    }
+
+    record Counterparties(UUID merchantId, UUID agentId, UUID clientId) {
+        static final Counterparties NONE = new Counterparties(null, null, null);
+    }
+}
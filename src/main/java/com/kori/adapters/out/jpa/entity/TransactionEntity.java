@@ -33,14 +33,27 @@ public class TransactionEntity {
     @Column(name = "original_transaction_id")
     private UUID originalTransactionId;
 
+    @Column(name = "merchant_id")
+    private UUID merchantId;
+
+    @Column(name = "agent_id")
+    private UUID agentId;
+
+    @Column(name = "client_id")
+    private UUID clientId;
+
     protected TransactionEntity() { }
 
-    public TransactionEntity(UUID id, String type, BigDecimal amount, OffsetDateTime createdAt, UUID originalTransactionId) {
+    public TransactionEntity(UUID id, String type, BigDecimal amount, OffsetDateTime createdAt, UUID originalTransactionId,
+                             UUID merchantId, UUID agentId, UUID clientId) {
         this.id = id;
         this.type = type;
         this.amount = amount;
         this.createdAt = createdAt;
         this.originalTransactionId = originalTransactionId;
+        this.merchantId = merchantId;
+        this.agentId = agentId;
+        this.clientId = clientId;
     }
 
 }
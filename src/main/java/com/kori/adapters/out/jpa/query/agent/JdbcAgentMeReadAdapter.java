@@ -10,6 +10,7 @@ import com.kori.query.model.QueryPage;
 import com.kori.query.model.me.AgentQueryModels;
 import com.kori.query.model.me.MeQueryModels;
 import com.kori.query.port.out.AgentMeReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -27,7 +28,7 @@ public class JdbcAgentMeReadAdapter implements AgentMeReadPort {
     private final OpaqueCursorCodec codec = new OpaqueCursorCodec();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public JdbcAgentMeReadAdapter(NamedParameterJdbcTemplate jdbcTemplate, ReferenceResolver referenceResolver) {
+    public JdbcAgentMeReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate, ReferenceResolver referenceResolver) {
         this.jdbcTemplate = jdbcTemplate;
         this.referenceResolver = referenceResolver;
     }
@@ -49,11 +50,9 @@ public class JdbcAgentMeReadAdapter implements AgentMeReadPort {
         String resolvedIdText = referenceResolver.resolveAgentIdTextByCode(agentCode);
         String sql = """
                 SELECT
-                  COALESCE(SUM(CASE WHEN account_type = 'AGENT_CASH_CLEARING' AND entry_type = 'CREDIT' THEN amount
-                                    WHEN account_type = 'AGENT_CASH_CLEARING' AND entry_type = 'DEBIT' THEN -amount ELSE 0 END), 0) AS cash_balance,
-                  COALESCE(SUM(CASE WHEN account_type = 'AGENT_WALLET' AND entry_type = 'CREDIT' THEN amount
-                                    WHEN account_type = 'AGENT_WALLET' AND entry_type = 'DEBIT' THEN -amount ELSE 0 END), 0) AS commission_balance
-                FROM ledger_entries
+                  COALESCE(SUM(CASE WHEN account_type = 'AGENT_CASH_CLEARING' THEN balance ELSE 0 END), 0) AS cash_balance,
+                  COALESCE(SUM(CASE WHEN account_type = 'AGENT_WALLET' THEN balance ELSE 0 END), 0) AS commission_balance
+                FROM account_balances
                 WHERE owner_ref = :resolvedIdText
                   AND account_type IN ('AGENT_CASH_CLEARING', 'AGENT_WALLET')
                 """;
@@ -119,13 +118,13 @@ public class JdbcAgentMeReadAdapter implements AgentMeReadPort {
 
         if (cursor != null) {
             sql.append(desc
-                    ? " AND (t.created_at < :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id::text < :cursorRef))"
-                    : " AND (t.created_at > :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id::text > :cursorRef))");
+                    ? " AND (t.created_at < :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id < :cursorRef))"
+                    : " AND (t.created_at > :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id > :cursorRef))");
             params.addValue("cursorCreatedAt", Timestamp.from(cursor.createdAt()));
-            params.addValue("cursorRef", cursor.ref());
+            params.addValue("cursorRef", QueryInputValidator.cursorUuid(cursor.ref()));
         }
 
-        sql.append(" ORDER BY t.created_at ").append(desc ? "DESC" : "ASC").append(", t.id::text ").append(desc ? "DESC" : "ASC");
+        sql.append(" ORDER BY t.created_at ").append(desc ? "DESC" : "ASC").append(", t.id ").append(desc ? "DESC" : "ASC");
         sql.append(" LIMIT :limit");
         params.addValue("limit", limit + 1);
 
@@ -2,6 +2,7 @@ package com.kori.adapters.out.jpa.query.agent;
 
 import com.kori.query.model.me.AgentQueryModels;
 import com.kori.query.port.out.AgentSearchReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -14,7 +15,7 @@ public class JdbcAgentSearchReadAdapter implements AgentSearchReadPort {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    public JdbcAgentSearchReadAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcAgentSearchReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
@@ -2,10 +2,13 @@ package com.kori.adapters.out.jpa.query.bo;
 
 import com.kori.query.model.BackofficeActorDetails;
 import com.kori.query.port.out.BackofficeActorDetailReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Optional;
 
 @Component
@@ -13,7 +16,7 @@ public class JdbcBackofficeActorDetailReadAdapter implements BackofficeActorDeta
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    public JdbcBackofficeActorDetailReadAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcBackofficeActorDetailReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
@@ -34,7 +37,21 @@ public class JdbcBackofficeActorDetailReadAdapter implements BackofficeActorDeta
 
     @Override
     public Optional<BackofficeActorDetails> findTerminalByRef(String terminalUid) {
-        return findByCode(terminalUid, "terminals", "terminal_uid", "TERMINAL");
+        String sql = """
+                SELECT t.terminal_uid AS actor_ref,
+                       t.display_name,
+                       COALESCE(t.display_name, t.terminal_uid) AS display,
+                       t.status,
+                       t.created_at,
+                       ta.last_seen_at AS last_activity_at
+                FROM terminals t
+                LEFT JOIN terminal_activity ta ON ta.terminal_uid = t.terminal_uid
+                WHERE t.terminal_uid = :actorRef
+                LIMIT 1
+                """;
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("actorRef", terminalUid), this::mapDetails)
+                .stream()
+                .findFirst();
     }
 
     @Override
@@ -58,14 +75,18 @@ public class JdbcBackofficeActorDetailReadAdapter implements BackofficeActorDeta
                 LIMIT 1
                 """.formatted(codeField, codeField, codeField, table, codeField);
         var params = new MapSqlParameterSource().addValue("actorRef", actorRef).addValue("actorType", actorType);
-        var rows = jdbcTemplate.query(sql, params, (rs, i) -> new BackofficeActorDetails(
+        var rows = jdbcTemplate.query(sql, params, this::mapDetails);
+        return rows.stream().findFirst();
+    }
+
+    private BackofficeActorDetails mapDetails(ResultSet rs, int rowNum) throws SQLException {
+        return new BackofficeActorDetails(
                 rs.getString("actor_ref"),
                 rs.getString("display_name"),
                 rs.getString("display"),
                 rs.getString("status"),
                 rs.getTimestamp("created_at").toInstant(),
                 rs.getTimestamp("last_activity_at") == null ? null : rs.getTimestamp("last_activity_at").toInstant()
-        ));
-        return rows.stream().findFirst();
+        );
     }
 }
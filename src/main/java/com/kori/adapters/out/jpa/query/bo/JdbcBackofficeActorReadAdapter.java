@@ -6,6 +6,7 @@ import com.kori.query.model.BackofficeActorItem;
 import com.kori.query.model.BackofficeActorQuery;
 import com.kori.query.model.QueryPage;
 import com.kori.query.port.out.BackofficeActorReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -20,7 +21,7 @@ public class JdbcBackofficeActorReadAdapter implements BackofficeActorReadPort {
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final OpaqueCursorCodec codec = new OpaqueCursorCodec();
 
-    public JdbcBackofficeActorReadAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcBackofficeActorReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
@@ -8,6 +8,7 @@ import com.kori.query.model.BackofficeAuditEventItem;
 import com.kori.query.model.BackofficeAuditEventQuery;
 import com.kori.query.model.QueryPage;
 import com.kori.query.port.out.BackofficeAuditEventReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -52,7 +53,7 @@ public class JdbcBackofficeAuditEventReadAdapter implements BackofficeAuditEvent
     private final OpaqueCursorCodec codec = new OpaqueCursorCodec();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public JdbcBackofficeAuditEventReadAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcBackofficeAuditEventReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
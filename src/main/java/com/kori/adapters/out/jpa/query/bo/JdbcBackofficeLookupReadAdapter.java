@@ -3,6 +3,7 @@ package com.kori.adapters.out.jpa.query.bo;
 import com.kori.query.model.BackofficeLookupItem;
 import com.kori.query.model.BackofficeLookupQuery;
 import com.kori.query.port.out.BackofficeLookupReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -15,7 +16,7 @@ public class JdbcBackofficeLookupReadAdapter implements BackofficeLookupReadPort
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    public JdbcBackofficeLookupReadAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcBackofficeLookupReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
@@ -5,6 +5,7 @@ import com.kori.adapters.out.jpa.query.common.QueryInputValidator;
 import com.kori.application.exception.ValidationException;
 import com.kori.query.model.*;
 import com.kori.query.port.out.BackofficeTransactionReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -25,7 +26,7 @@ public class JdbcBackofficeTransactionReadAdapter implements BackofficeTransacti
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final OpaqueCursorCodec codec = new OpaqueCursorCodec();
 
-    public JdbcBackofficeTransactionReadAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+    public JdbcBackofficeTransactionReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
@@ -41,10 +42,10 @@ public class JdbcBackofficeTransactionReadAdapter implements BackofficeTransacti
         applyFilters(query, sql, params);
         if (cursor != null) {
             sql.append(desc
-                    ? " AND (t.created_at < :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id::text < :cursorRef))"
-                    : " AND (t.created_at > :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id::text > :cursorRef))");
+                    ? " AND (t.created_at < :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id < :cursorRef))"
+                    : " AND (t.created_at > :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id > :cursorRef))");
             params.addValue("cursorCreatedAt", Timestamp.from(cursor.createdAt()));
-            params.addValue("cursorRef", cursor.ref());
+            params.addValue("cursorRef", QueryInputValidator.cursorUuid(cursor.ref()));
         }
         sql.append(" ORDER BY t.created_at ").append(desc ? "DESC" : "ASC").append(", t.id ").append(desc ? "DESC" : "ASC");
         sql.append(" LIMIT :limit");
@@ -74,27 +75,24 @@ public class JdbcBackofficeTransactionReadAdapter implements BackofficeTransacti
     @Override
     public Optional<BackofficeTransactionDetails> findByRef(String transactionRef) {
         String sql = baseSql() + " AND t.id::text = :transactionRef LIMIT 1";
-        var rows = jdbcTemplate.query(sql, new MapSqlParameterSource("transactionRef", transactionRef), (rs, n) -> {
-            var metadata = readTransactionMetadata(transactionRef);
-
-            return new BackofficeTransactionDetails(
-                    rs.getString("transaction_ref"),
-                    rs.getString("type"),
-                    rs.getString("status"),
-                    rs.getBigDecimal("amount"),
-                    rs.getString("currency"),
-                    rs.getString("merchant_code"),
-                    rs.getString("agent_code"),
-                    rs.getString("client_code"),
-                    rs.getString("client_phone"),
-                    metadata.terminalUid(),
-                    metadata.cardUid(),
-                    rs.getString("original_transaction_ref"),
-                    readPayout(transactionRef),
-                    readClientRefund(transactionRef),
-                    readLedgerLines(transactionRef),
-                    rs.getTimestamp("created_at").toInstant());
-        });
+        var rows = jdbcTemplate.query(sql, new MapSqlParameterSource("transactionRef", transactionRef), (rs, n) ->
+                new BackofficeTransactionDetails(
+                        rs.getString("transaction_ref"),
+                        rs.getString("type"),
+                        rs.getString("status"),
+                        rs.getBigDecimal("amount"),
+                        rs.getString("currency"),
+                        rs.getString("merchant_code"),
+                        rs.getString("agent_code"),
+                        rs.getString("client_code"),
+                        rs.getString("client_phone"),
+                        rs.getString("terminal_uid"),
+                        rs.getString("card_uid"),
+                        rs.getString("original_transaction_ref"),
+                        readPayout(transactionRef),
+                        readClientRefund(transactionRef),
+                        readLedgerLines(transactionRef),
+                        rs.getTimestamp("created_at").toInstant()));
 
         return rows.stream().findFirst();
     }
@@ -110,28 +108,16 @@ public class JdbcBackofficeTransactionReadAdapter implements BackofficeTransacti
                        m.code AS merchant_code,
                        a.code AS agent_code,
                        c.code AS client_code,
-                       c.phone_number AS client_phone
+                       c.phone_number AS client_phone,
+                       tc.terminal_uid,
+                       tc.card_uid
                 FROM transactions t
+                LEFT JOIN transaction_context tc ON tc.transaction_id = t.id
                 LEFT JOIN payouts p ON p.transaction_id = t.id
                 LEFT JOIN client_refunds cr ON cr.transaction_id = t.id
-                LEFT JOIN LATERAL (
-                       SELECT le.owner_ref FROM ledger_entries le
-                       WHERE le.transaction_id = t.id AND le.account_type = 'MERCHANT'
-                       ORDER BY le.created_at DESC NULLS LAST, le.id DESC LIMIT 1
-                ) lem ON TRUE
-                LEFT JOIN merchants m ON m.id::text = lem.owner_ref
-                LEFT JOIN LATERAL (
-                       SELECT le.owner_ref FROM ledger_entries le
-                       WHERE le.transaction_id = t.id AND le.account_type = 'AGENT_WALLET'
-                       ORDER BY le.created_at DESC NULLS LAST, le.id DESC LIMIT 1
-                ) lea ON TRUE
-                LEFT JOIN agents a ON a.id::text = lea.owner_ref
-                LEFT JOIN LATERAL (
-                       SELECT le.owner_ref FROM ledger_entries le
-                       WHERE le.transaction_id = t.id AND le.account_type = 'CLIENT'
-                       ORDER BY le.created_at DESC NULLS LAST, le.id DESC LIMIT 1
-                ) lec ON TRUE
-                LEFT JOIN clients c ON c.id::text = lec.owner_ref
+                LEFT JOIN merchants m ON m.id = t.merchant_id
+                LEFT JOIN agents a ON a.id = t.agent_id
+                LEFT JOIN clients c ON c.id = t.client_id
                 WHERE 1=1
                 """;
     }
@@ -166,11 +152,11 @@ public class JdbcBackofficeTransactionReadAdapter implements BackofficeTransacti
             p.addValue("q", "%" + q.query().trim() + "%");
         }
         if (q.terminalUid() != null && !q.terminalUid().isBlank()) {
-            sql.append(" AND EXISTS (SELECT 1 FROM audit_events ae WHERE ae.metadata_json::jsonb ->> 'transactionRef' = t.id::text AND ae.metadata_json::jsonb ->> 'terminalUid' = :terminalUid)");
+            sql.append(" AND tc.terminal_uid = :terminalUid");
             p.addValue("terminalUid", q.terminalUid().trim());
         }
         if (q.cardUid() != null && !q.cardUid().isBlank()) {
-            sql.append(" AND EXISTS (SELECT 1 FROM audit_events ae WHERE ae.metadata_json::jsonb ->> 'transactionRef' = t.id::text AND ae.metadata_json::jsonb ->> 'cardUid' = :cardUid)");
+            sql.append(" AND tc.card_uid = :cardUid");
             p.addValue("cardUid", q.cardUid().trim());
         }
         if (q.merchantCode() != null && !q.merchantCode().isBlank()) {
@@ -200,15 +186,7 @@ public class JdbcBackofficeTransactionReadAdapter implements BackofficeTransacti
                     p.addValue("actorRef", q.actorRef());
                 }
                 case "ADMIN" -> {
-                    sql.append("""
-                        AND EXISTS (
-                            SELECT 1
-                            FROM audit_events ae
-                            WHERE ae.metadata_json::jsonb ->> 'transactionRef' = t.id::text
-                              AND ae.metadata_json::jsonb ->> 'actorType' = :actorType
-                              AND ae.metadata_json::jsonb ->> 'actorRef'  = :actorRef
-                        )
-                    """);
+                    sql.append(" AND tc.actor_type = :actorType AND tc.actor_ref = :actorRef");
                     p.addValue("actorType", "ADMIN");
                     p.addValue("actorRef", q.actorRef().trim());
                 }
@@ -245,24 +223,6 @@ public class JdbcBackofficeTransactionReadAdapter implements BackofficeTransacti
         return rows.isEmpty() ? null : rows.get(0);
     }
 
-    private TransactionMetadata readTransactionMetadata(String transactionRef) {
-        String sql = "SELECT metadata_json::jsonb ->> 'terminalUid' AS terminal_uid, metadata_json::jsonb ->> 'cardUid' AS card_uid, occurred_at FROM audit_events WHERE metadata_json::jsonb ->> 'transactionRef' = :transactionRef ORDER BY occurred_at DESC, id DESC";
-        var rows = jdbcTemplate.query(sql, new MapSqlParameterSource("transactionRef", transactionRef), (rs, n) -> new TransactionMetadata(rs.getString("terminal_uid"), rs.getString("card_uid"), rs.getTimestamp("occurred_at").toInstant()));
-        String terminalUid = null; String cardUid = null;
-        for (var row : rows) {
-            if (terminalUid == null && row.terminalUid() != null && !row.terminalUid().isBlank()) {
-                terminalUid = row.terminalUid();
-            }
-            if (cardUid == null && row.cardUid() != null && !row.cardUid().isBlank()) {
-                cardUid = row.cardUid();
-            }
-            if (terminalUid != null && cardUid != null) {
-                break;
-            }
-        }
-        return new TransactionMetadata(terminalUid, cardUid, null);
-    }
-
     private List<BackofficeLedgerLine> readLedgerLines(String transactionRef) {
         String sql = """
                 SELECT le.account_type,
@@ -293,6 +253,4 @@ public class JdbcBackofficeTransactionReadAdapter implements BackofficeTransacti
     private Instant instantOrNull(Timestamp timestamp) {
         return timestamp == null ? null : timestamp.toInstant();
     }
-
-    private record TransactionMetadata(String terminalUid, String cardUid, Instant occurredAt) {}
 }
@@ -0,0 +1,159 @@
+package com.kori.adapters.out.jpa.query.bo;
+
+import com.kori.application.command.SearchTransactionHistoryCommand;
+import com.kori.application.command.TransactionHistoryView;
+import com.kori.application.port.out.TransactionHistoryReadPort;
+import com.kori.application.result.TransactionHistoryItem;
+import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.model.transaction.TransactionType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Historique ledger d'un compte en une seule requête keyset :
+ * le parcours part des écritures du compte (idx_ledger_entries_account_history, created_at DESC, transaction_id)
+ * et s'arrête au LIMIT ; une ligne par transaction (sa première écriture sur le compte), jointe à transactions
+ * via transaction_ids (routage vers la partition).
+ * L'horodatage d'un élément, du curseur et des filtres from/to est celui de cette écriture.
+ * Une transaction peut recevoir des écritures longtemps après sa création (payout / refund complété ou échoué) :
+ * le dédoublonnage et les agrégats LATERAL couvrent toutes ses écritures, bornés seulement par le bas
+ * (created_at de la transaction moins 1 jour, comme les lectures par id) pour l'élagage des partitions.
+ */
+@Component
+public class JdbcTransactionHistoryReadAdapter implements TransactionHistoryReadPort {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTransactionHistoryReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TransactionHistoryItem> findPage(LedgerAccountRef scope, SearchTransactionHistoryCommand criteria) {
+        TransactionHistoryView view = criteria.view();
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT t.id, t.type, s.created_at,
+                       x.client_id, x.merchant_id, x.agent_id,
+                       x.self_debits, x.self_credits,
+                       x.client_debit, x.merchant_credit, x.platform_credit, x.agent_credit
+                FROM ledger_entries s
+                JOIN transactions t
+                  ON t.id = s.transaction_id
+                 AND t.created_at = (SELECT k.created_at FROM transaction_ids k WHERE k.id = s.transaction_id)
+                CROSS JOIN LATERAL (
+                    SELECT
+                      (array_agg(le.owner_ref ORDER BY le.created_at, le.id) FILTER (WHERE le.account_type = 'CLIENT'))[1] AS client_id,
+                      (array_agg(le.owner_ref ORDER BY le.created_at, le.id) FILTER (WHERE le.account_type = 'MERCHANT'))[1] AS merchant_id,
+                      (array_agg(le.owner_ref ORDER BY le.created_at, le.id) FILTER (WHERE le.account_type = 'AGENT_WALLET'))[1] AS agent_id,
+                      COALESCE(SUM(le.amount) FILTER (WHERE le.account_type = :accountType AND le.owner_ref = :ownerRef AND le.entry_type = 'DEBIT'), 0) AS self_debits,
+                      COALESCE(SUM(le.amount) FILTER (WHERE le.account_type = :accountType AND le.owner_ref = :ownerRef AND le.entry_type = 'CREDIT'), 0) AS self_credits,
+                      COALESCE(SUM(le.amount) FILTER (WHERE le.account_type = 'CLIENT' AND le.entry_type = 'DEBIT'), 0) AS client_debit,
+                      COALESCE(SUM(le.amount) FILTER (WHERE le.account_type = 'MERCHANT' AND le.entry_type = 'CREDIT'), 0) AS merchant_credit,
+                      COALESCE(SUM(le.amount) FILTER (WHERE le.account_type = 'PLATFORM_FEE_REVENUE' AND le.entry_type = 'CREDIT'), 0) AS platform_credit,
+                      COALESCE(SUM(le.amount) FILTER (WHERE le.account_type = 'AGENT_WALLET' AND le.entry_type = 'CREDIT'), 0) AS agent_credit
+                    FROM ledger_entries le
+                    WHERE le.transaction_id = s.transaction_id
+                      AND le.created_at >= t.created_at - interval '1 day'
+                ) x
+                WHERE s.account_type = :accountType
+                  AND s.owner_ref = :ownerRef
+                  AND NOT EXISTS (
+                    SELECT 1 FROM ledger_entries d
+                    WHERE d.transaction_id = s.transaction_id
+                      AND d.account_type = s.account_type
+                      AND d.owner_ref = s.owner_ref
+                      AND d.created_at < s.created_at
+                      AND d.created_at >= t.created_at - interval '1 day'
+                  )
+                """);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountType", scope.type().name())
+                .addValue("ownerRef", scope.ownerRef());
+
+        if (criteria.transactionType() != null && !criteria.transactionType().isBlank()) {
+            sql.append(" AND t.type = :transactionType");
+            params.addValue("transactionType", criteria.transactionType().trim().toUpperCase(Locale.ROOT));
+        }
+        if (criteria.from() != null) {
+            sql.append(" AND s.created_at >= :from");
+            params.addValue("from", Timestamp.from(criteria.from()));
+        }
+        if (criteria.to() != null) {
+            sql.append(" AND s.created_at <= :to");
+            params.addValue("to", Timestamp.from(criteria.to()));
+        }
+        if (criteria.beforeCreatedAt() != null) {
+            // ordre de l'index : transaction_id croissant à created_at égal ; la borne seule sert de condition d'index
+            sql.append(" AND s.created_at <= :beforeCreatedAt");
+            sql.append(" AND (s.created_at < :beforeCreatedAt OR s.transaction_id > :beforeTransactionId)");
+            params.addValue("beforeCreatedAt", Timestamp.from(criteria.beforeCreatedAt()));
+            params.addValue("beforeTransactionId", UUID.fromString(criteria.beforeTransactionId()));
+        }
+
+        if (view == TransactionHistoryView.PAY_BY_CARD_VIEW) {
+            sql.append(" AND t.type = 'PAY_BY_CARD'");
+        } else if (view == TransactionHistoryView.COMMISSION_VIEW) {
+            sql.append(" AND x.agent_credit <> 0");
+        }
+
+        String amountExpr = switch (view) {
+            case SUMMARY -> "ABS(x.self_credits - x.self_debits)";
+            case PAY_BY_CARD_VIEW -> "x.merchant_credit";
+            case COMMISSION_VIEW -> "x.agent_credit";
+        };
+        if (criteria.minAmount() != null) {
+            sql.append(" AND ").append(amountExpr).append(" >= :minAmount");
+            params.addValue("minAmount", criteria.minAmount());
+        }
+        if (criteria.maxAmount() != null) {
+            sql.append(" AND ").append(amountExpr).append(" <= :maxAmount");
+            params.addValue("maxAmount", criteria.maxAmount());
+        }
+
+        sql.append(" ORDER BY s.created_at DESC, s.transaction_id LIMIT :limit");
+        params.addValue("limit", criteria.limit());
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, n) -> {
+            BigDecimal selfDebits = rs.getBigDecimal("self_debits").setScale(2);
+            BigDecimal selfCredits = rs.getBigDecimal("self_credits").setScale(2);
+
+            BigDecimal amount = null;
+            BigDecimal fee = null;
+            BigDecimal totalDebited = null;
+            if (view == TransactionHistoryView.PAY_BY_CARD_VIEW) {
+                amount = rs.getBigDecimal("merchant_credit").setScale(2);
+                fee = rs.getBigDecimal("platform_credit").setScale(2);
+                totalDebited = rs.getBigDecimal("client_debit").setScale(2);
+            } else if (view == TransactionHistoryView.COMMISSION_VIEW) {
+                amount = rs.getBigDecimal("agent_credit").setScale(2);
+                fee = BigDecimal.ZERO.setScale(2);
+                totalDebited = BigDecimal.ZERO.setScale(2);
+            }
+
+            return new TransactionHistoryItem(
+                    rs.getString("id"),
+                    TransactionType.valueOf(rs.getString("type")),
+                    rs.getTimestamp("created_at").toInstant(),
+                    rs.getString("client_id"),
+                    rs.getString("merchant_id"),
+                    rs.getString("agent_id"),
+                    selfDebits,
+                    selfCredits,
+                    selfCredits.subtract(selfDebits),
+                    amount,
+                    fee,
+                    totalDebited
+            );
+        });
+    }
+}
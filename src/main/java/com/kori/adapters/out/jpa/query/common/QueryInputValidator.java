@@ -3,6 +3,7 @@ package com.kori.adapters.out.jpa.query.common;
 import com.kori.application.exception.ValidationException;
 
 import java.util.Map;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 public final class QueryInputValidator {
@@ -42,4 +43,15 @@ public final class QueryInputValidator {
             throw new ValidationException("Invalid filter format", Map.of("field", field));
         }
     }
+
+    /**
+     * Référence de curseur sur un identifiant UUID : comparée en uuid pour rester sur l'index (created_at, id).
+     */
+    public static UUID cursorUuid(String ref) {
+        try {
+            return UUID.fromString(ref);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor format", Map.of("field", "cursor"));
+        }
+    }
 }
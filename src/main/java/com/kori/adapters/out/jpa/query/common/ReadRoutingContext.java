@@ -0,0 +1,25 @@
+package com.kori.adapters.out.jpa.query.common;
+
+/**
+ * Lectures du thread courant forcées sur le primaire (read-your-writes),
+ * posé par les endpoints qui relisent une écriture qu'ils viennent de faire.
+ */
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+}
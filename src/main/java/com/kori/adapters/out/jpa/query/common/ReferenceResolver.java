@@ -1,5 +1,6 @@
 package com.kori.adapters.out.jpa.query.common;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -9,7 +10,7 @@ public class ReferenceResolver {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    public ReferenceResolver(NamedParameterJdbcTemplate jdbcTemplate) {
+    public ReferenceResolver(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
@@ -0,0 +1,82 @@
+package com.kori.adapters.out.jpa.query.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Objects;
+
+/**
+ * Sonde le retard de réplication du replica de lecture.
+ * Replica utilisable si la dernière sonde est récente, a réussi et mesure un retard <= maxLagMs ;
+ * sinon les lectures repartent sur le primaire jusqu'à la sonde suivante qui passe.
+ * Une instance qui n'est pas en recovery (même base sous un second pool) a un retard nul.
+ * Un replica n'est considéré à jour (LSN reçu = LSN rejoué) que si son WAL receiver est en streaming :
+ * receiver déconnecté, ou statut illisible sans pg_read_all_stats, le retard est l'âge de la dernière
+ * transaction rejouée (inconnu, donc replica inutilisable, si rien n'a encore été rejoué).
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                          AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN 0
+                     ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END::bigint
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+    private final long staleAfterMs;
+
+    private volatile long lagMs = Long.MAX_VALUE;
+    private volatile long probedAtMs;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, long maxLagMs, long checkIntervalMs) {
+        this.replicaJdbcTemplate = Objects.requireNonNull(replicaJdbcTemplate, "replicaJdbcTemplate");
+        if (maxLagMs < 0 || checkIntervalMs < 1) {
+            throw new IllegalArgumentException("maxLagMs must be >= 0 and checkIntervalMs >= 1");
+        }
+        this.maxLagMs = maxLagMs;
+        this.staleAfterMs = 3 * checkIntervalMs;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${kori.read-replica.lag-check-interval-ms:1000}",
+            initialDelayString = "${kori.read-replica.lag-check-interval-ms:1000}"
+    )
+    public void probe() {
+        boolean wasUsable = usable;
+        try {
+            Long lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Long.class);
+            lagMs = lag == null ? Long.MAX_VALUE : lag;
+            usable = lagMs <= maxLagMs;
+        } catch (RuntimeException e) {
+            lagMs = Long.MAX_VALUE;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Read replica probe failed, reads fall back to primary: {}", e.getMessage());
+            }
+        }
+        probedAtMs = System.currentTimeMillis();
+
+        if (wasUsable && !usable && lagMs != Long.MAX_VALUE) {
+            log.warn("Read replica lag {} ms > {} ms, reads fall back to primary", lagMs, maxLagMs);
+        } else if (!wasUsable && usable) {
+            log.info("Read replica in use (lag {} ms)", lagMs);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return usable && System.currentTimeMillis() - probedAtMs <= staleAfterMs;
+    }
+
+    public long lagMs() {
+        return lagMs;
+    }
+}
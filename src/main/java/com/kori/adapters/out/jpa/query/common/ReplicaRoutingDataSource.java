@@ -0,0 +1,45 @@
+package com.kori.adapters.out.jpa.query.common;
+
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DataSource des adapters de lecture : replica par défaut, primaire si
+ * - une transaction en écriture est active (la lecture voit ses propres écritures, sur la même connexion),
+ * - l'endpoint exige read-your-writes ({@link ReadRoutingContext}),
+ * - le replica est en retard ou injoignable ({@link ReplicaLagMonitor}).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = Objects.requireNonNull(lagMonitor, "lagMonitor");
+        DataSource txAwarePrimary = new TransactionAwareDataSourceProxy(Objects.requireNonNull(primary, "primary"));
+        setTargetDataSources(Map.of(
+                Target.PRIMARY, txAwarePrimary,
+                Target.REPLICA, Objects.requireNonNull(replica, "replica")
+        ));
+        setDefaultTargetDataSource(txAwarePrimary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadRoutingContext.isPrimaryRequired()) {
+            return Target.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.PRIMARY;
+        }
+        return lagMonitor.isReplicaUsable() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
@@ -7,6 +7,7 @@ import com.kori.adapters.out.jpa.query.common.ReferenceResolver;
 import com.kori.query.model.QueryPage;
 import com.kori.query.model.me.MeQueryModels;
 import com.kori.query.port.out.ClientMeReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -27,7 +28,7 @@ public class JdbcClientMeReadAdapter implements ClientMeReadPort {
     private final ReferenceResolver referenceResolver;
     private final OpaqueCursorCodec codec = new OpaqueCursorCodec();
 
-    public JdbcClientMeReadAdapter(NamedParameterJdbcTemplate jdbcTemplate, ReferenceResolver referenceResolver) {
+    public JdbcClientMeReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate, ReferenceResolver referenceResolver) {
         this.jdbcTemplate = jdbcTemplate;
         this.referenceResolver = referenceResolver;
     }
@@ -49,8 +50,8 @@ public class JdbcClientMeReadAdapter implements ClientMeReadPort {
     public MeQueryModels.ActorBalance getBalance(String clientCode) {
         String resolvedIdText = referenceResolver.resolveClientIdTextByCode(clientCode);
         String sql = """
-                SELECT COALESCE(SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE -amount END), 0) AS balance
-                FROM ledger_entries
+                SELECT COALESCE(SUM(balance), 0) AS balance
+                FROM account_balances
                 WHERE account_type = 'CLIENT' AND owner_ref = :resolvedIdText
                 """;
         var balance = jdbcTemplate.queryForObject(sql, new MapSqlParameterSource("resolvedIdText", resolvedIdText), BigDecimal.class);
@@ -148,9 +149,9 @@ public class JdbcClientMeReadAdapter implements ClientMeReadPort {
     private void applyCursor(StringBuilder sql, MapSqlParameterSource params, CursorPayload cursor, boolean desc) {
         if (cursor == null) return;
         sql.append(desc
-                ? " AND (t.created_at < :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id::text < :cursorRef))"
-                : " AND (t.created_at > :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id::text > :cursorRef))");
+                ? " AND (t.created_at < :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id < :cursorRef))"
+                : " AND (t.created_at > :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id > :cursorRef))");
         params.addValue("cursorCreatedAt", Timestamp.from(cursor.createdAt()));
-        params.addValue("cursorRef", cursor.ref());
+        params.addValue("cursorRef", QueryInputValidator.cursorUuid(cursor.ref()));
     }
 }
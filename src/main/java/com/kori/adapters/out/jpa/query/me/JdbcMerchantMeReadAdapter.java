@@ -7,6 +7,7 @@ import com.kori.adapters.out.jpa.query.common.ReferenceResolver;
 import com.kori.query.model.QueryPage;
 import com.kori.query.model.me.MeQueryModels;
 import com.kori.query.port.out.MerchantMeReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -26,7 +27,7 @@ public class JdbcMerchantMeReadAdapter implements MerchantMeReadPort {
     private final ReferenceResolver referenceResolver;
     private final OpaqueCursorCodec codec = new OpaqueCursorCodec();
 
-    public JdbcMerchantMeReadAdapter(NamedParameterJdbcTemplate jdbcTemplate, ReferenceResolver referenceResolver) {
+    public JdbcMerchantMeReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate, ReferenceResolver referenceResolver) {
         this.jdbcTemplate = jdbcTemplate;
         this.referenceResolver = referenceResolver;
     }
@@ -47,10 +48,10 @@ public class JdbcMerchantMeReadAdapter implements MerchantMeReadPort {
     @Override
     public MeQueryModels.ActorBalance getBalance(String merchantCode) {
         String sql = """
-                SELECT COALESCE(SUM(CASE WHEN le.entry_type = 'CREDIT' THEN le.amount ELSE -le.amount END), 0) AS balance
-                FROM ledger_entries le
-                WHERE le.account_type = 'MERCHANT'
-                AND le.owner_ref = :resolvedIdText
+                SELECT COALESCE(SUM(ab.balance), 0) AS balance
+                FROM account_balances ab
+                WHERE ab.account_type = 'MERCHANT'
+                AND ab.owner_ref = :resolvedIdText
                 """;
         String resolvedIdText = referenceResolver.resolveMerchantIdTextByCode(merchantCode);
         var balance = jdbcTemplate.queryForObject(sql, new MapSqlParameterSource("resolvedIdText", resolvedIdText), BigDecimal.class);
@@ -112,9 +113,10 @@ public class JdbcMerchantMeReadAdapter implements MerchantMeReadPort {
 
         StringBuilder sql = new StringBuilder("""
                 SELECT t.terminal_uid, t.status, t.created_at, m.code AS merchant_code,
-                   (SELECT MAX(ae.occurred_at) FROM audit_events ae WHERE ae.actor_type = 'TERMINAL' AND ae.actor_id = t.terminal_uid) AS last_seen
+                   ta.last_seen_at AS last_seen
                 FROM terminals t
                 JOIN merchants m ON m.id = t.merchant_id
+                LEFT JOIN terminal_activity ta ON ta.terminal_uid = t.terminal_uid
                 WHERE m.code = :merchantCode
                 """);
         var params = new MapSqlParameterSource("merchantCode", merchantCode);
@@ -155,9 +157,10 @@ public class JdbcMerchantMeReadAdapter implements MerchantMeReadPort {
     public Optional<MeQueryModels.MeTerminalItem> findTerminalForMerchant(String merchantCode, String terminalUid) {
         String sql = """
                 SELECT t.terminal_uid, t.status, t.created_at, m.code AS merchant_code,
-                   (SELECT MAX(ae.occurred_at) FROM audit_events ae WHERE ae.actor_type = 'TERMINAL' AND ae.actor_id = t.terminal_uid) AS last_seen
+                   ta.last_seen_at AS last_seen
                 FROM terminals t
                 JOIN merchants m ON m.id = t.merchant_id
+                LEFT JOIN terminal_activity ta ON ta.terminal_uid = t.terminal_uid
                 WHERE t.terminal_uid = :terminalUid AND m.code = :merchantCode
                 LIMIT 1
                 """;
@@ -208,9 +211,9 @@ public class JdbcMerchantMeReadAdapter implements MerchantMeReadPort {
     private void applyTransactionCursor(StringBuilder sql, MapSqlParameterSource params, CursorPayload cursor, boolean desc) {
         if (cursor == null) return;
         sql.append(desc
-                ? " AND (t.created_at < :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id::text < :cursorRef))"
-                : " AND (t.created_at > :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id::text > :cursorRef))");
+                ? " AND (t.created_at < :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id < :cursorRef))"
+                : " AND (t.created_at > :cursorCreatedAt OR (t.created_at = :cursorCreatedAt AND t.id > :cursorRef))");
         params.addValue("cursorCreatedAt", Timestamp.from(cursor.createdAt()));
-        params.addValue("cursorRef", cursor.ref());
+        params.addValue("cursorRef", QueryInputValidator.cursorUuid(cursor.ref()));
     }
 }
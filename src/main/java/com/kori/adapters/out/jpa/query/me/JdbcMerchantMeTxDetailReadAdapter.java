@@ -3,6 +3,7 @@ package com.kori.adapters.out.jpa.query.me;
 import com.kori.adapters.out.jpa.query.common.ReferenceResolver;
 import com.kori.query.model.me.MeQueryModels;
 import com.kori.query.port.out.MerchantMeTxDetailReadPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -15,7 +16,7 @@ public class JdbcMerchantMeTxDetailReadAdapter implements MerchantMeTxDetailRead
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final ReferenceResolver referenceResolver;
 
-    public JdbcMerchantMeTxDetailReadAdapter(NamedParameterJdbcTemplate jdbcTemplate, ReferenceResolver referenceResolver) {
+    public JdbcMerchantMeTxDetailReadAdapter(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate, ReferenceResolver referenceResolver) {
         this.jdbcTemplate = jdbcTemplate;
         this.referenceResolver = referenceResolver;
     }
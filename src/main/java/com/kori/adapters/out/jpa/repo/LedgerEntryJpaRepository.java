@@ -12,12 +12,21 @@ import java.util.UUID;
 
 public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntity, UUID> {
 
-    List<LedgerEntryEntity> findByTransactionIdOrderByCreatedAtAscIdAsc(UUID transactionId);
-
-    List<LedgerEntryEntity> findByAccountTypeAndOwnerRefOrderByCreatedAtAscIdAsc(
-            String accountType,
-            String ownerRef
-    );
+    /**
+     * Les écritures d'une transaction sont horodatées à l'append, jamais avant la transaction : la borne
+     * created_at tirée de transaction_ids écarte les partitions antérieures à son mois.
+     * Marge d'un jour pour l'écart d'horloge application / base (écritures horodatées par la base en mode function).
+     */
+    @Query(value = """
+        SELECT e.*
+        FROM ledger_entries e
+        WHERE e.transaction_id = :transactionId
+          AND e.created_at >= COALESCE(
+                (SELECT k.created_at - interval '1 day' FROM transaction_ids k WHERE k.id = :transactionId),
+                '-infinity')
+        ORDER BY e.created_at, e.id
+    """, nativeQuery = true)
+    List<LedgerEntryEntity> findRoutedByTransactionId(@Param("transactionId") UUID transactionId);
 
     @Query("""
         select
@@ -29,18 +38,10 @@ public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntit
     BigDecimal netBalance(@Param("ledgerAccountType") String accountType,
                           @Param("ownerRef") String ownerRef);
 
-    @Query("""
-        select e.transactionId
-        from LedgerEntryEntity e
-        group by e.transactionId
-        having
-          coalesce(sum(case when e.entryType = 'CREDIT' then e.amount else 0 end), 0)
-            <> coalesce(sum(case when e.entryType = 'DEBIT' then e.amount else 0 end), 0)
-          or coalesce(sum(case when e.entryType = 'CREDIT' then 1 else 0 end), 0) = 0
-          or coalesce(sum(case when e.entryType = 'DEBIT' then 1 else 0 end), 0) = 0
-    """)
-    List<UUID> findInconsistentTransactionIds();
-
+    /**
+     * e.createdAt >= fromInclusive : les écritures sont horodatées à l'append, jamais avant leur
+     * transaction ; le prédicat limite le scan de ledger_entries aux partitions de la période.
+     */
     @Query("""
         select coalesce(sum(e.amount), 0)
         from LedgerEntryEntity e
@@ -48,6 +49,7 @@ public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntit
         where e.accountType = :accountType
           and e.ownerRef = :ownerRef
           and e.entryType = 'DEBIT'
+          and e.createdAt >= :fromInclusive
           and t.type = :transactionType
           and t.createdAt >= :fromInclusive
           and t.createdAt < :toExclusive
@@ -2,11 +2,23 @@ package com.kori.adapters.out.jpa.repo;
 
 import com.kori.adapters.out.jpa.entity.TransactionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TransactionJpaRepository extends JpaRepository<TransactionEntity, UUID> {
 
-    boolean existsByTypeAndOriginalTransactionId(String type, UUID originalTransactionId);
-
+    /**
+     * Lecture par id routée par transaction_ids : le created_at connu à l'exécution
+     * limite la lecture à la partition de la transaction.
+     */
+    @Query(value = """
+        SELECT t.*
+        FROM transactions t
+        WHERE t.id = :id
+          AND t.created_at = (SELECT k.created_at FROM transaction_ids k WHERE k.id = :id)
+    """, nativeQuery = true)
+    Optional<TransactionEntity> findRoutedById(@Param("id") UUID id);
 }
@@ -0,0 +1,141 @@
+package com.kori.adapters.out.memory;
+
+import com.kori.application.exception.IdempotencyConflictException;
+import com.kori.application.idempotency.IdempotencyClaim;
+import com.kori.application.idempotency.IdempotencyStatus;
+import com.kori.application.port.out.IdempotencyPort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Store d'idempotence en mémoire du process : mono-nœud / dev uniquement (perdu au redémarrage,
+ * non partagé entre instances). Mêmes règles que le store PostgreSQL ; dans une transaction,
+ * la réclamation est annulée au rollback et COMPLETED / FAILED ne sont appliqués qu'au commit.
+ */
+public class InMemoryIdempotencyAdapter implements IdempotencyPort {
+
+    private static final int SWEEP_EVERY = 1024;
+
+    private record Entry(IdempotencyStatus status, String requestHash, String resultType, Object result, Instant expiresAt) {
+
+        boolean expired(Instant now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+
+    private final Duration idempotencyTtl;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger claimsSinceSweep = new AtomicInteger();
+
+    public InMemoryIdempotencyAdapter(Duration idempotencyTtl) {
+        this.idempotencyTtl = Objects.requireNonNull(idempotencyTtl, "idempotencyTtl");
+    }
+
+    @Override
+    public <T> IdempotencyClaim<T> claimOrLoad(String idempotencyKey, String requestHash, Class<T> type) {
+        if (claimsSinceSweep.incrementAndGet() >= SWEEP_EVERY) {
+            claimsSinceSweep.set(0);
+            Instant now = Instant.now();
+            entries.values().removeIf(entry -> entry.expired(now));
+        }
+
+        Instant now = Instant.now();
+        Entry claim = new Entry(IdempotencyStatus.IN_PROGRESS, requestHash, type.getName(), null, now.plus(idempotencyTtl));
+        Entry current = entries.compute(idempotencyKey, (key, existing) ->
+                existing == null || existing.expired(now) ? claim : existing);
+
+        if (current == claim) {
+            afterRollback(() -> entries.remove(idempotencyKey, claim));
+            return IdempotencyClaim.claimed();
+        }
+        if (current.requestHash() != null && !current.requestHash().isBlank() && !current.requestHash().equals(requestHash)) {
+            return IdempotencyClaim.conflict();
+        }
+        if (!current.resultType().equals(type.getName())) {
+            throw new IllegalStateException("Idempotency type mismatch for key=" + idempotencyKey);
+        }
+        if (current.status() == IdempotencyStatus.COMPLETED && current.result() != null) {
+            return IdempotencyClaim.completed(type.cast(current.result()));
+        }
+        if (current.status() == IdempotencyStatus.IN_PROGRESS) {
+            return IdempotencyClaim.inProgress();
+        }
+        return IdempotencyClaim.conflict();
+    }
+
+    @Override
+    public void complete(String idempotencyKey, String requestHash, Object result) {
+        Entry current = entries.get(idempotencyKey);
+        String type = result.getClass().getName();
+        if (current == null) {
+            throw new IllegalStateException("Missing idempotency record for key=" + idempotencyKey);
+        }
+        if (current.requestHash() != null && !current.requestHash().isBlank() && !current.requestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException(
+                    "Idempotency key reuse with different payload.",
+                    Map.of("idempotencyKey", idempotencyKey)
+            );
+        }
+        if (!current.resultType().equals(type)) {
+            throw new IllegalStateException("Idempotency type mismatch for key=" + idempotencyKey);
+        }
+        if (current.status() != IdempotencyStatus.IN_PROGRESS) {
+            return;
+        }
+
+        Entry completed = new Entry(IdempotencyStatus.COMPLETED, requestHash, type, result, Instant.now().plus(idempotencyTtl));
+        afterCommit(() -> entries.replace(idempotencyKey, current, completed));
+    }
+
+    @Override
+    public void fail(String idempotencyKey, String requestHash) {
+        Entry current = entries.get(idempotencyKey);
+        if (current == null) {
+            return;
+        }
+        if (current.requestHash() != null && !current.requestHash().isBlank() && !current.requestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException(
+                    "Idempotency key reuse with different payload.",
+                    Map.of("idempotencyKey", idempotencyKey)
+            );
+        }
+        if (current.status() == IdempotencyStatus.IN_PROGRESS) {
+            Entry failed = new Entry(IdempotencyStatus.FAILED, requestHash, current.resultType(), null, Instant.now().plus(idempotencyTtl));
+            afterCommit(() -> entries.replace(idempotencyKey, current, failed));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
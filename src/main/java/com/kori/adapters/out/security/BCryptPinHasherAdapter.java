@@ -2,15 +2,34 @@ package com.kori.adapters.out.security;
 
 import com.kori.application.port.out.PinHasherPort;
 import com.kori.domain.model.card.HashedPin;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 public final class BCryptPinHasherAdapter implements PinHasherPort {
 
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final int cost;
+    private final BCryptPasswordEncoder encoder;
+    private final PinVerificationCache verificationCache;
+
+    public BCryptPinHasherAdapter(
+            @Value("${kori.security.pin.bcrypt-cost:12}") int cost,
+            @Value("${kori.security.pin.verification-cache.enabled:false}") boolean cacheEnabled,
+            @Value("${kori.security.pin.verification-cache.ttl:PT5M}") Duration cacheTtl,
+            @Value("${kori.security.pin.verification-cache.max-size:10000}") int cacheMaxSize
+    ) {
+        this.cost = cost;
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.verificationCache = cacheEnabled ? new PinVerificationCache(cacheTtl, cacheMaxSize) : null;
+    }
 
     @Override
     public HashedPin hash(String rawPin) {
@@ -24,4 +43,41 @@ public final class BCryptPinHasherAdapter implements PinHasherPort {
         Objects.requireNonNull(hashedPin, "hashedPin must not be null");
         return encoder.matches(rawPin, hashedPin.value());
     }
+
+    @Override
+    public boolean matches(String cardUid, String rawPin, HashedPin hashedPin) {
+        if (verificationCache == null) {
+            return matches(rawPin, hashedPin);
+        }
+        Objects.requireNonNull(cardUid, "cardUid must not be null");
+        Objects.requireNonNull(rawPin, "rawPin must not be null");
+        Objects.requireNonNull(hashedPin, "hashedPin must not be null");
+
+        if (verificationCache.isVerified(cardUid, rawPin, hashedPin.value())) {
+            return true;
+        }
+        if (!encoder.matches(rawPin, hashedPin.value())) {
+            verificationCache.evict(cardUid);
+            return false;
+        }
+        verificationCache.recordSuccess(cardUid, rawPin, hashedPin.value());
+        return true;
+    }
+
+    @Override
+    public void evict(String cardUid) {
+        if (verificationCache != null && cardUid != null) {
+            verificationCache.evict(cardUid);
+        }
+    }
+
+    /**
+     * Rehash si le coût bcrypt du hash stocké diffère du coût configuré (hausse ou baisse).
+     */
+    @Override
+    public boolean needsRehash(HashedPin hashedPin) {
+        Objects.requireNonNull(hashedPin, "hashedPin must not be null");
+        Matcher m = BCRYPT_COST.matcher(hashedPin.value());
+        return !m.find() || Integer.parseInt(m.group(1)) != cost;
+    }
 }
@@ -0,0 +1,81 @@
+package com.kori.adapters.out.security;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache borné (LRU) et à durée de vie courte des vérifications PIN réussies, une entrée par carte.
+ * Le PIN n'est jamais stocké : seul un HMAC (clé aléatoire propre au process) est conservé,
+ * avec le hash persistant contre lequel il a été vérifié (un changement de PIN invalide l'entrée).
+ */
+final class PinVerificationCache {
+
+    private record Entry(byte[] pinDigest, String hashedPin, long expiresAtNanos) {
+    }
+
+    private final long ttlNanos;
+    private final SecretKey digestKey;
+    private final Map<String, Entry> entries;
+
+    PinVerificationCache(Duration ttl, int maxSize) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be > 0");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        this.ttlNanos = ttl.toNanos();
+        try {
+            this.digestKey = KeyGenerator.getInstance("HmacSHA256").generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    boolean isVerified(String cardUid, String rawPin, String hashedPin) {
+        Entry entry = entries.get(cardUid);
+        if (entry == null) {
+            return false;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+            entries.remove(cardUid, entry);
+            return false;
+        }
+        return entry.hashedPin().equals(hashedPin)
+                && MessageDigest.isEqual(entry.pinDigest(), digest(cardUid, rawPin));
+    }
+
+    void recordSuccess(String cardUid, String rawPin, String hashedPin) {
+        entries.put(cardUid, new Entry(digest(cardUid, rawPin), hashedPin, System.nanoTime() + ttlNanos));
+    }
+
+    void evict(String cardUid) {
+        entries.remove(cardUid);
+    }
+
+    private byte[] digest(String cardUid, String rawPin) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(digestKey);
+            mac.update(cardUid.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(rawPin.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to digest PIN", e);
+        }
+    }
+}
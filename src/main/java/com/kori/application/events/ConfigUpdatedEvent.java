@@ -0,0 +1,22 @@
+package com.kori.application.events;
+
+import com.kori.domain.model.config.ConfigType;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Événement publié quand une configuration singleton (frais, limites, commissions) est modifiée.
+ */
+public record ConfigUpdatedEvent(
+        String eventId,
+        Instant occurredAt,
+        ConfigType configType
+) implements DomainEvent {
+
+    public ConfigUpdatedEvent {
+        Objects.requireNonNull(eventId, "eventId");
+        Objects.requireNonNull(occurredAt, "occurredAt");
+        Objects.requireNonNull(configType, "configType");
+    }
+}
@@ -3,6 +3,7 @@ package com.kori.application.handler;
 import com.kori.application.events.ClientStatusChangedEvent;
 import com.kori.application.port.out.AccountProfilePort;
 import com.kori.application.port.out.CardRepositoryPort;
+import com.kori.application.port.out.PinHasherPort;
 import com.kori.domain.ledger.LedgerAccountRef;
 import com.kori.domain.model.account.AccountProfile;
 import com.kori.domain.model.card.Card;
@@ -22,11 +23,14 @@ public class OnClientStatusChangedHandler {
 
     private final AccountProfilePort accountProfilePort;
     private final CardRepositoryPort cardRepositoryPort;
+    private final PinHasherPort pinHasherPort;
 
     public OnClientStatusChangedHandler(AccountProfilePort accountProfilePort,
-                                        CardRepositoryPort cardRepositoryPort) {
+                                        CardRepositoryPort cardRepositoryPort,
+                                        PinHasherPort pinHasherPort) {
         this.accountProfilePort = Objects.requireNonNull(accountProfilePort);
         this.cardRepositoryPort = Objects.requireNonNull(cardRepositoryPort);
+        this.pinHasherPort = Objects.requireNonNull(pinHasherPort);
     }
 
     public void handle(ClientStatusChangedEvent event) {
@@ -72,6 +76,7 @@ public class OnClientStatusChangedHandler {
                     if (card.status() == CardStatus.ACTIVE) {
                         card.suspend();
                         cardRepositoryPort.save(card);
+                        pinHasherPort.evict(card.cardUid());
                     }
                 }
             }
@@ -81,6 +86,7 @@ public class OnClientStatusChangedHandler {
                     if (card.status() != CardStatus.LOST && card.status() != CardStatus.INACTIVE) {
                         card.deactivate();
                         cardRepositoryPort.save(card);
+                        pinHasherPort.evict(card.cardUid());
                     }
                 }
             }
@@ -0,0 +1,24 @@
+package com.kori.application.handler;
+
+import com.kori.application.events.ConfigUpdatedEvent;
+import com.kori.application.port.out.ConfigCachePort;
+
+import java.util.Objects;
+
+/**
+ * Handler applicatif : une configuration modifiée invalide le snapshot local.
+ * Les autres instances convergent via la colonne version (revalidation périodique).
+ */
+public class OnConfigUpdatedHandler {
+
+    private final ConfigCachePort configCachePort;
+
+    public OnConfigUpdatedHandler(ConfigCachePort configCachePort) {
+        this.configCachePort = Objects.requireNonNull(configCachePort);
+    }
+
+    public void handle(ConfigUpdatedEvent event) {
+        Objects.requireNonNull(event, "event");
+        configCachePort.invalidate(event.configType());
+    }
+}
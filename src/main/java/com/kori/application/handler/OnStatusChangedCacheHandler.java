@@ -0,0 +1,47 @@
+package com.kori.application.handler;
+
+import com.kori.application.events.AccountProfileStatusChangedEvent;
+import com.kori.application.events.AgentStatusChangedEvent;
+import com.kori.application.events.ClientStatusChangedEvent;
+import com.kori.application.events.MerchantStatusChangedEvent;
+import com.kori.application.port.out.AccountStatusPort;
+import com.kori.domain.ledger.LedgerAccountRef;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Handler applicatif : un changement de statut invalide les statuts de comptes en cache
+ * (comptes de l'acteur, ou le profil lui-même).
+ */
+public class OnStatusChangedCacheHandler {
+
+    private final AccountStatusPort accountStatusPort;
+
+    public OnStatusChangedCacheHandler(AccountStatusPort accountStatusPort) {
+        this.accountStatusPort = Objects.requireNonNull(accountStatusPort);
+    }
+
+    public void handle(ClientStatusChangedEvent event) {
+        Objects.requireNonNull(event, "event");
+        accountStatusPort.evict(List.of(LedgerAccountRef.client(event.clientId().value().toString())));
+    }
+
+    public void handle(MerchantStatusChangedEvent event) {
+        Objects.requireNonNull(event, "event");
+        accountStatusPort.evict(List.of(LedgerAccountRef.merchant(event.merchantId().value().toString())));
+    }
+
+    public void handle(AgentStatusChangedEvent event) {
+        Objects.requireNonNull(event, "event");
+        String agentId = event.agentId().value().toString();
+        accountStatusPort.evict(List.of(
+                LedgerAccountRef.agentWallet(agentId),
+                LedgerAccountRef.agentCashClearing(agentId)));
+    }
+
+    public void handle(AccountProfileStatusChangedEvent event) {
+        Objects.requireNonNull(event, "event");
+        accountStatusPort.evict(List.of(event.accountRef()));
+    }
+}
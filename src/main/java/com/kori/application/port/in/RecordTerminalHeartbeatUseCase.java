@@ -0,0 +1,7 @@
+package com.kori.application.port.in;
+
+import com.kori.application.security.ActorContext;
+
+public interface RecordTerminalHeartbeatUseCase {
+    void execute(ActorContext actorContext);
+}
@@ -0,0 +1,21 @@
+package com.kori.application.port.out;
+
+import com.kori.domain.ledger.LedgerAccountRef;
+
+import java.util.List;
+
+/**
+ * Maintenance of the per-account balance projection (account_balances) against the raw ledger.
+ */
+public interface AccountBalanceProjectionPort {
+
+    /**
+     * Returns accounts whose projected balance differs from sum(CREDIT) - sum(DEBIT) over ledger entries.
+     */
+    List<LedgerAccountRef> findDriftedAccounts();
+
+    /**
+     * Recomputes the projected balance of an account from its ledger entries.
+     */
+    void rebuild(LedgerAccountRef account);
+}
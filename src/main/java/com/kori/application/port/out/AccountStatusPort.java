@@ -0,0 +1,22 @@
+package com.kori.application.port.out;
+
+import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.model.common.Status;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Statut des profils de compte ledger pour les contrôles d'autorisation,
+ * servi depuis un cache mémoire borné (TTL) ; vide si le profil n'existe pas.
+ */
+public interface AccountStatusPort {
+
+    Optional<Status> findStatus(LedgerAccountRef account);
+
+    /** Invalide les statuts en cache (changement de statut du profil ou de son titulaire). */
+    void evict(Collection<LedgerAccountRef> accounts);
+
+    /** Vide le cache (notifications d'invalidation possiblement perdues). */
+    void evictAll();
+}
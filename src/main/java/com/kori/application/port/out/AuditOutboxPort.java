@@ -0,0 +1,10 @@
+package com.kori.application.port.out;
+
+public interface AuditOutboxPort {
+
+    /**
+     * Moves at most {@code batchSize} pending events from the outbox to the audit log,
+     * oldest first, in one transaction. Returns the number of events moved.
+     */
+    int relay(int batchSize);
+}
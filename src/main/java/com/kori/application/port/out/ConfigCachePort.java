@@ -0,0 +1,11 @@
+package com.kori.application.port.out;
+
+import com.kori.domain.model.config.ConfigType;
+
+/**
+ * Invalidation of the in-memory snapshots of singleton configuration rows.
+ */
+public interface ConfigCachePort {
+
+    void invalidate(ConfigType configType);
+}
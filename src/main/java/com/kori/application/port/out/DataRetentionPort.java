@@ -2,8 +2,23 @@ package com.kori.application.port.out;
 
 import java.time.Instant;
 
+/**
+ * Purge par lots : chaque appel de lot est une transaction courte, supprimant au plus batchSize lignes
+ * dans l'ordre de la clé de rétention. La reprise est implicite (les lignes supprimées ne reviennent pas).
+ */
 public interface DataRetentionPort {
-    long purgeExpiredIdempotencyRecords(Instant now);
 
-    long purgeAuditEventsBefore(Instant cutoff);
+    long countExpiredIdempotencyRecords(Instant now);
+
+    int purgeExpiredIdempotencyBatch(Instant now, int batchSize);
+
+    /**
+     * Drops whole daily audit partitions older than the cutoff. Returns the estimated number of rows dropped
+     * (planner statistics). A partition whose lock is not obtained is left for the next call.
+     */
+    long dropExpiredAuditPartitions(Instant cutoff);
+
+    long countAuditEventsBefore(Instant cutoff);
+
+    int purgeAuditEventsBatch(Instant cutoff, int batchSize);
 }
@@ -2,10 +2,17 @@ package com.kori.application.port.out;
 
 import com.kori.domain.ledger.LedgerAccountRef;
 
+import java.util.Collection;
+
 /**
- * Locks a ledger account scope to prevent concurrent balance checks and debits.
+ * Locks ledger account scopes to prevent concurrent balance checks and debits.
  */
 public interface LedgerAccountLockPort {
 
-    void lock(LedgerAccountRef accountRef);
+    /**
+     * Locks every given account until the end of the current transaction, in a canonical order
+     * shared by all callers (no deadlock between operations locking overlapping sets).
+     * Callers pass the accounts the operation debits or whose balance it checks; duplicates are ignored.
+     */
+    void lockAll(Collection<LedgerAccountRef> accountRefs);
 }
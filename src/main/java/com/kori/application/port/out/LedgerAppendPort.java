@@ -1,9 +1,66 @@
 package com.kori.application.port.out;
 
+import com.kori.application.security.ActorContext;
+import com.kori.application.security.ActorType;
+import com.kori.domain.ledger.LedgerAccountRef;
 import com.kori.domain.ledger.LedgerEntry;
+import com.kori.domain.model.common.Money;
+import com.kori.domain.model.terminal.TerminalUid;
+import com.kori.domain.model.transaction.Transaction;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 public interface LedgerAppendPort {
     void append(List<LedgerEntry> entries);
+
+    /**
+     * Append avec débit gardé : le débit net de {@code guardedAccount} est appliqué au solde
+     * par une seule mise à jour conditionnelle (solde >= montant), sans verrou ni lecture préalable.
+     * Retourne false si le solde est insuffisant : rien n'est écrit, l'appelant lève l'erreur métier.
+     * {@code guardedAccount} doit être un compte titulaire débité par {@code entries}.
+     */
+    boolean appendGuarded(List<LedgerEntry> entries, LedgerAccountRef guardedAccount);
+
+    /**
+     * Enregistre la transaction (contreparties comprises, déduites des écritures), son contexte d'initiation
+     * et ses écritures, sans garde.
+     */
+    void post(Transaction transaction, TransactionContext context, List<LedgerEntry> entries);
+
+    /**
+     * Enregistre la transaction et ses écritures avec débit gardé (même règle que {@link #appendGuarded}).
+     * Retourne le nouveau solde de {@code guardedAccount}, vide si le solde est insuffisant
+     * (l'appelant lève l'erreur métier, la transaction est annulée).
+     */
+    Optional<Money> postGuarded(Transaction transaction,
+                                TransactionContext context,
+                                List<LedgerEntry> entries,
+                                LedgerAccountRef guardedAccount);
+
+    /**
+     * Contexte d'initiation d'une transaction (recherches backoffice par acteur, terminal ou carte).
+     * terminalUid et cardUid sont null pour les opérations sans terminal ni carte.
+     */
+    record TransactionContext(ActorType actorType, String actorRef, TerminalUid terminalUid, String cardUid) {
+
+        public TransactionContext {
+            Objects.requireNonNull(actorType, "actorType");
+            Objects.requireNonNull(actorRef, "actorRef");
+        }
+
+        public static TransactionContext of(ActorContext actor) {
+            Objects.requireNonNull(actor, "actor");
+            return new TransactionContext(actor.actorType(), actor.actorRef(), null, null);
+        }
+
+        public TransactionContext withTerminal(TerminalUid terminalUid) {
+            return new TransactionContext(actorType, actorRef, terminalUid, cardUid);
+        }
+
+        public TransactionContext withCard(String cardUid) {
+            return new TransactionContext(actorType, actorRef, terminalUid, cardUid);
+        }
+    }
 }
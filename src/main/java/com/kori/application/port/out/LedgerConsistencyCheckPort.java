@@ -0,0 +1,31 @@
+package com.kori.application.port.out;
+
+import com.kori.domain.model.transaction.TransactionId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Chunked double-entry checks over ledger entries, driven by persisted (created_at, id) checkpoints.
+ */
+public interface LedgerConsistencyCheckPort {
+
+    String INCREMENTAL = "INCREMENTAL";
+    String FULL_SWEEP = "FULL_SWEEP";
+
+    /**
+     * Checks the transactions of the next {@code chunkSize} entries after the checkpoint cursor
+     * (entries created before {@code upperBoundExclusive} only) and advances the cursor.
+     * Returns empty when the checkpoint is currently held by another node.
+     */
+    Optional<ChunkResult> checkNextChunk(String checkpoint, Instant upperBoundExclusive, int chunkSize);
+
+    /**
+     * Moves the checkpoint cursor back to the beginning of the ledger.
+     */
+    void resetCheckpoint(String checkpoint);
+
+    record ChunkResult(int scannedEntries, List<TransactionId> inconsistentTransactionIds, boolean exhausted) {
+    }
+}
@@ -29,12 +29,6 @@ public interface LedgerQueryPort {
      */
     List<LedgerEntry> findEntries(LedgerAccountRef account);
 
-    /**
-     * Returns transaction ids that violate double-entry invariants
-     * (missing debit/credit or unbalanced amounts).
-     */
-    List<TransactionId> findInconsistentTransactionIds();
-
     /**
      * Returns the sum of debits for a given account, transaction type and period.
      * Used for limit checks.
@@ -45,4 +39,16 @@ public interface LedgerQueryPort {
             java.time.Instant fromInclusive,
             java.time.Instant toExclusive
     );
+
+    /**
+     * Returns the sum of debits for a given account and transaction type over whole UTC days
+     * [fromInclusive, toExclusive), read from the daily spend counters.
+     * Used for daily / weekly / monthly limit checks.
+     */
+    Money sumDebitsByTransactionTypeAndDays(
+            LedgerAccountRef account,
+            TransactionType transactionType,
+            java.time.LocalDate fromInclusive,
+            java.time.LocalDate toExclusive
+    );
 }
@@ -0,0 +1,24 @@
+package com.kori.application.port.out;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+public interface PartitionMaintenancePort {
+
+    /**
+     * Ensures daily audit event partitions exist for every UTC day in [fromInclusive, toExclusive).
+     */
+    void ensureAuditEventPartitions(LocalDate fromInclusive, LocalDate toExclusive);
+
+    /**
+     * Ensures monthly transactions / ledger_entries partitions exist for every UTC month in [fromInclusive, toExclusive).
+     */
+    void ensureLedgerPartitions(YearMonth fromInclusive, YearMonth toExclusive);
+
+    /**
+     * Moves monthly transactions / ledger_entries partitions older than cutoffExclusive (and their indexes)
+     * to the given tablespace, one partition per transaction. A partition whose lock is not obtained
+     * is left for the next call. Returns the number of partitions moved.
+     */
+    int archiveLedgerPartitionsBefore(YearMonth cutoffExclusive, String tablespace);
+}
@@ -0,0 +1,27 @@
+package com.kori.application.port.out;
+
+import com.kori.domain.model.account.AccountProfile;
+import com.kori.domain.model.card.Card;
+import com.kori.domain.model.client.Client;
+import com.kori.domain.model.merchant.Merchant;
+import com.kori.domain.model.terminal.Terminal;
+import com.kori.domain.model.terminal.TerminalUid;
+
+public interface PaymentContextReadPort {
+
+    /**
+     * Contexte d'un paiement carte en une seule lecture : le terminal et son marchand, la carte et son client,
+     * les profils de compte ledger marchand et client. Tout élément introuvable est null.
+     */
+    PayByCardContext loadPayByCardContext(TerminalUid terminalUid, String cardUid);
+
+    record PayByCardContext(
+            Terminal terminal,
+            Merchant merchant,
+            AccountProfile merchantAccount,
+            Card card,
+            Client client,
+            AccountProfile clientAccount
+    ) {
+    }
+}
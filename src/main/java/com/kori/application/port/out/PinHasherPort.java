@@ -6,4 +6,26 @@ public interface PinHasherPort {
     HashedPin hash(String rawPin);
 
     boolean matches(String rawPin, HashedPin hashedPin);
+
+    /**
+     * Card-scoped verification: implementations may short-circuit on a recent successful
+     * verification of the same PIN for the same card.
+     */
+    default boolean matches(String cardUid, String rawPin, HashedPin hashedPin) {
+        return matches(rawPin, hashedPin);
+    }
+
+    /**
+     * Drops any cached verification for the card (PIN failure, status change).
+     */
+    default void evict(String cardUid) {
+    }
+
+    /**
+     * True when the stored hash was produced with other parameters than the current ones
+     * and should be replaced by {@link #hash(String)} after a successful verification.
+     */
+    default boolean needsRehash(HashedPin hashedPin) {
+        return false;
+    }
 }
@@ -0,0 +1,18 @@
+package com.kori.application.port.out;
+
+import com.kori.domain.model.terminal.TerminalUid;
+
+import java.time.Instant;
+
+public interface TerminalActivityPort {
+
+    /**
+     * Records that the terminal was seen at {@code seenAt}. May be buffered.
+     */
+    void recordActivity(TerminalUid terminalUid, Instant seenAt);
+
+    /**
+     * Persists buffered activity. Returns the number of terminals written.
+     */
+    int flush();
+}
@@ -0,0 +1,21 @@
+package com.kori.application.port.out;
+
+import com.kori.application.command.SearchTransactionHistoryCommand;
+import com.kori.application.result.TransactionHistoryItem;
+import com.kori.domain.ledger.LedgerAccountRef;
+
+import java.util.List;
+
+public interface TransactionHistoryReadPort {
+
+    /**
+     * Returns at most {@code criteria.limit()} transactions touching the resolved {@code scope} ledger,
+     * one item per transaction with aggregates over all of its entries, newest first
+     * (createdAt DESC, then transactionId ASC).
+     * An item's createdAt is the time of the transaction's first entry on the scope ledger, not the transaction's
+     * own creation time: the period filters and the cursor (beforeCreatedAt, beforeTransactionId) use that time.
+     * A cursor page holds the items strictly after the cursor in that order.
+     * Type, period, cursor, view and amount filters of {@code criteria} are applied by the store.
+     */
+    List<TransactionHistoryItem> findPage(LedgerAccountRef scope, SearchTransactionHistoryCommand criteria);
+}
@@ -37,7 +37,6 @@ public final class AddCardToExistingClientService implements AddCardToExistingCl
             ClientRepositoryPort clientRepositoryPort,
             CardRepositoryPort cardRepositoryPort,
             AgentRepositoryPort agentRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             FeePolicyPort feePolicyPort,
             CommissionPolicyPort commissionPolicyPort,
             LedgerAppendPort ledgerAppendPort,
@@ -57,7 +56,6 @@ public final class AddCardToExistingClientService implements AddCardToExistingCl
                 idGeneratorPort,
                 cardRepositoryPort,
                 agentRepositoryPort,
-                transactionRepositoryPort,
                 feePolicyPort,
                 commissionPolicyPort,
                 ledgerAppendPort,
@@ -97,7 +95,7 @@ public final class AddCardToExistingClientService implements AddCardToExistingCl
 
                     Instant now = timeProviderPort.now();
 
-                    var outcome = enrollmentWorkflow.enrollCard(client, agent, command.cardUid(), command.pin(), now);
+                    var outcome = enrollmentWorkflow.enrollCard(command.actorContext(), client, agent, command.cardUid(), command.pin(), now);
 
                     Map<String, String> metadata = new HashMap<>();
                     metadata.put("transactionId", outcome.transaction().id().value().toString());
@@ -27,10 +27,8 @@ public final class AdminReceiptAdminServiceAgentBankDeposit implements AdminRece
     private final TimeProviderPort timeProviderPort;
     private final IdGeneratorPort idGeneratorPort;
     private final AgentRepositoryPort agentRepositoryPort;
-    private final TransactionRepositoryPort transactionRepositoryPort;
     private final LedgerAppendPort ledgerAppendPort;
     private final LedgerQueryPort ledgerQueryPort;
-    private final LedgerAccountLockPort ledgerAccountLockPort;
     private final AuditPort auditPort;
     private final IdempotencyExecutor idempotencyExecutor;
 
@@ -39,19 +37,15 @@ public final class AdminReceiptAdminServiceAgentBankDeposit implements AdminRece
                                                     IdempotencyPort idempotencyPort,
                                                     IdGeneratorPort idGeneratorPort,
                                                     AgentRepositoryPort agentRepositoryPort,
-                                                    TransactionRepositoryPort transactionRepositoryPort,
                                                     LedgerAppendPort ledgerAppendPort,
                                                     LedgerQueryPort ledgerQueryPort,
-                                                    LedgerAccountLockPort ledgerAccountLockPort,
                                                     AuditPort auditPort) {
         this.adminAccessService = adminAccessService;
         this.timeProviderPort = timeProviderPort;
         this.idGeneratorPort = idGeneratorPort;
         this.agentRepositoryPort = agentRepositoryPort;
-        this.transactionRepositoryPort = transactionRepositoryPort;
         this.ledgerAppendPort = ledgerAppendPort;
         this.ledgerQueryPort = ledgerQueryPort;
-        this.ledgerAccountLockPort = ledgerAccountLockPort;
         this.auditPort = auditPort;
         this.idempotencyExecutor = new IdempotencyExecutor(idempotencyPort);
     }
@@ -76,7 +70,6 @@ public final class AdminReceiptAdminServiceAgentBankDeposit implements AdminRece
                     agentRepositoryPort.findByIdForUpdate(agent.id());
 
                     var agentCashClearingAcc = LedgerAccountRef.agentCashClearing(agent.id().value().toString());
-                    ledgerAccountLockPort.lock(agentCashClearingAcc);
 
                     Money expectedAmount = Money.of(ledgerQueryPort.netBalance(agentCashClearingAcc).asBigDecimal().negate());
                     if (expectedAmount.asBigDecimal().compareTo(amount.asBigDecimal()) != 0) {
@@ -88,11 +81,10 @@ public final class AdminReceiptAdminServiceAgentBankDeposit implements AdminRece
 
                     TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
                     Transaction tx = Transaction.agentBankDepositReceipt(txId, amount, now);
-                    transactionRepositoryPort.save(tx);
 
                     var bankAcc = LedgerAccountRef.platformBank();
 
-                    ledgerAppendPort.append(List.of(
+                    ledgerAppendPort.post(tx, LedgerAppendPort.TransactionContext.of(command.actorContext()), List.of(
                             LedgerEntry.debit(tx.id(), bankAcc, amount),
                             LedgerEntry.credit(tx.id(), agentCashClearingAcc, amount)
                     ));
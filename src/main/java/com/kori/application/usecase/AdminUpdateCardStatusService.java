@@ -6,6 +6,7 @@ import com.kori.application.exception.NotFoundException;
 import com.kori.application.port.in.AdminUpdateCardStatusUseCase;
 import com.kori.application.port.out.AuditPort;
 import com.kori.application.port.out.CardRepositoryPort;
+import com.kori.application.port.out.PinHasherPort;
 import com.kori.application.port.out.TimeProviderPort;
 import com.kori.application.result.UpdateCardStatusResult;
 import com.kori.application.security.ActorContext;
@@ -23,15 +24,18 @@ public final class AdminUpdateCardStatusService implements AdminUpdateCardStatus
     private final TimeProviderPort timeProviderPort;
     private final CardRepositoryPort cardRepositoryPort;
     private final AuditPort auditPort;
+    private final PinHasherPort pinHasherPort;
 
     public AdminUpdateCardStatusService(
             AdminAccessService adminAccessService, TimeProviderPort timeProviderPort,
             CardRepositoryPort cardRepositoryPort,
-            AuditPort auditPort) {
+            AuditPort auditPort,
+            PinHasherPort pinHasherPort) {
         this.adminAccessService = adminAccessService;
         this.timeProviderPort = timeProviderPort;
         this.cardRepositoryPort = cardRepositoryPort;
         this.auditPort = auditPort;
+        this.pinHasherPort = pinHasherPort;
     }
 
     @Override
@@ -59,6 +63,7 @@ public final class AdminUpdateCardStatusService implements AdminUpdateCardStatus
         }
 
         cardRepositoryPort.save(card);
+        pinHasherPort.evict(card.cardUid());
 
         // Audit
         String auditAction = "ADMIN_CARD_STATUS_UPDATED_" + cmd.targetStatus();
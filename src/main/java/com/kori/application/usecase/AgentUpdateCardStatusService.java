@@ -9,6 +9,7 @@ import com.kori.application.port.in.AgentUpdateCardStatusUseCase;
 import com.kori.application.port.out.AgentRepositoryPort;
 import com.kori.application.port.out.AuditPort;
 import com.kori.application.port.out.CardRepositoryPort;
+import com.kori.application.port.out.PinHasherPort;
 import com.kori.application.port.out.TimeProviderPort;
 import com.kori.application.result.UpdateCardStatusResult;
 import com.kori.domain.model.agent.Agent;
@@ -27,16 +28,19 @@ public final class AgentUpdateCardStatusService implements AgentUpdateCardStatus
     private final TimeProviderPort timeProviderPort;
     private final CardRepositoryPort cardRepositoryPort;
     private final AuditPort auditPort;
+    private final PinHasherPort pinHasherPort;
 
     public AgentUpdateCardStatusService(
             AgentRepositoryPort agentRepositoryPort,
             TimeProviderPort timeProviderPort,
             CardRepositoryPort cardRepositoryPort,
-            AuditPort auditPort) {
+            AuditPort auditPort,
+            PinHasherPort pinHasherPort) {
         this.agentRepositoryPort = agentRepositoryPort;
         this.timeProviderPort = timeProviderPort;
         this.cardRepositoryPort = cardRepositoryPort;
         this.auditPort = auditPort;
+        this.pinHasherPort = pinHasherPort;
     }
 
     @Override
@@ -64,6 +68,7 @@ public final class AgentUpdateCardStatusService implements AgentUpdateCardStatus
         }
 
         cardRepositoryPort.save(card);
+        pinHasherPort.evict(card.cardUid());
 
         // Audit
         Instant now = timeProviderPort.now();
@@ -3,6 +3,7 @@ package com.kori.application.usecase;
 import com.kori.application.guard.AgentCashLimitGuard;
 import com.kori.application.guard.PricingGuards;
 import com.kori.application.port.out.*;
+import com.kori.application.security.ActorContext;
 import com.kori.application.security.PinFormatValidator;
 import com.kori.domain.ledger.LedgerAccountRef;
 import com.kori.domain.ledger.LedgerEntry;
@@ -22,7 +23,6 @@ final class CardEnrollmentWorkflow {
     private final IdGeneratorPort idGeneratorPort;
     private final CardRepositoryPort cardRepositoryPort;
     private final AgentRepositoryPort agentRepositoryPort;
-    private final TransactionRepositoryPort transactionRepositoryPort;
     private final FeePolicyPort feePolicyPort;
     private final CommissionPolicyPort commissionPolicyPort;
     private final LedgerAppendPort ledgerAppendPort;
@@ -33,7 +33,6 @@ final class CardEnrollmentWorkflow {
             IdGeneratorPort idGeneratorPort,
             CardRepositoryPort cardRepositoryPort,
             AgentRepositoryPort agentRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             FeePolicyPort feePolicyPort,
             CommissionPolicyPort commissionPolicyPort,
             LedgerAppendPort ledgerAppendPort,
@@ -44,7 +43,6 @@ final class CardEnrollmentWorkflow {
         this.idGeneratorPort = Objects.requireNonNull(idGeneratorPort);
         this.cardRepositoryPort = Objects.requireNonNull(cardRepositoryPort);
         this.agentRepositoryPort = Objects.requireNonNull(agentRepositoryPort);
-        this.transactionRepositoryPort = Objects.requireNonNull(transactionRepositoryPort);
         this.feePolicyPort = Objects.requireNonNull(feePolicyPort);
         this.commissionPolicyPort = Objects.requireNonNull(commissionPolicyPort);
         this.ledgerAppendPort = Objects.requireNonNull(ledgerAppendPort);
@@ -52,7 +50,8 @@ final class CardEnrollmentWorkflow {
         this.pinHasherPort = Objects.requireNonNull(pinHasherPort);
     }
 
-    CardEnrollmentOutcome enrollCard(Client client, Agent agent, String cardUid, String pin, Instant now) {
+    CardEnrollmentOutcome enrollCard(ActorContext actor, Client client, Agent agent, String cardUid, String pin, Instant now) {
+        Objects.requireNonNull(actor, "actor");
         Objects.requireNonNull(client, "client");
         Objects.requireNonNull(agent, "agent");
         Objects.requireNonNull(cardUid, "cardUid");
@@ -73,12 +72,11 @@ final class CardEnrollmentWorkflow {
 
         TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
         Transaction tx = Transaction.enrollCard(txId, cardPrice, now);
-        tx = transactionRepositoryPort.save(tx);
 
         agentRepositoryPort.findByIdForUpdate(agent.id());
         agentCashLimitGuard.ensureProjectedBalanceWithinLimit(agent.id().value().toString(), cardPrice, Money.zero());
 
-        ledgerAppendPort.append(List.of(
+        ledgerAppendPort.post(tx, LedgerAppendPort.TransactionContext.of(actor).withCard(cardUid), List.of(
                 LedgerEntry.debit(tx.id(), LedgerAccountRef.agentCashClearing(agent.id().value().toString()), cardPrice),
                 LedgerEntry.credit(tx.id(), LedgerAccountRef.agentWallet(agent.id().value().toString()), agentCommission),
                 LedgerEntry.credit(tx.id(), LedgerAccountRef.platformFeeRevenue(), platformRevenue)
@@ -30,7 +30,6 @@ public final class CashInByAgentService implements CashInByAgentUseCase {
     private final IdGeneratorPort idGeneratorPort;
     private final AgentRepositoryPort agentRepositoryPort;
     private final ClientRepositoryPort clientRepositoryPort;
-    private final TransactionRepositoryPort transactionRepositoryPort;
     private final AgentCashLimitGuard agentCashLimitGuard;
     private final LedgerAppendPort ledgerAppendPort;
     private final AuditPort auditPort;
@@ -44,7 +43,6 @@ public final class CashInByAgentService implements CashInByAgentUseCase {
                                 ClientRepositoryPort clientRepositoryPort,
                                 LedgerQueryPort ledgerQueryPort,
                                 PlatformConfigPort platformConfigPort,
-                                TransactionRepositoryPort transactionRepositoryPort,
                                 LedgerAppendPort ledgerAppendPort,
                                 AuditPort auditPort,
                                 OperationAuthorizationService operationAuthorizationService) {
@@ -52,7 +50,6 @@ public final class CashInByAgentService implements CashInByAgentUseCase {
         this.idGeneratorPort = idGeneratorPort;
         this.agentRepositoryPort = agentRepositoryPort;
         this.clientRepositoryPort = clientRepositoryPort;
-        this.transactionRepositoryPort = transactionRepositoryPort;
         this.agentCashLimitGuard = new AgentCashLimitGuard(ledgerQueryPort, platformConfigPort);
         this.ledgerAppendPort = ledgerAppendPort;
         this.auditPort = auditPort;
@@ -85,7 +82,6 @@ public final class CashInByAgentService implements CashInByAgentUseCase {
 
                     TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
                     Transaction tx = Transaction.cashInByAgent(txId, amount, now);
-                    tx = transactionRepositoryPort.save(tx);
 
                     // Cash-in is free (no fees, no commissions)
                     agentRepositoryPort.findByIdForUpdate(agent.id());
@@ -94,7 +90,7 @@ public final class CashInByAgentService implements CashInByAgentUseCase {
                     var clearingAcc = LedgerAccountRef.agentCashClearing(agent.id().value().toString());
                     var clientAcc = LedgerAccountRef.client(client.id().value().toString());
 
-                    ledgerAppendPort.append(List.of(
+                    ledgerAppendPort.post(tx, LedgerAppendPort.TransactionContext.of(command.actorContext()), List.of(
                             LedgerEntry.debit(tx.id(), clearingAcc, amount),
                             LedgerEntry.credit(tx.id(), clientAcc, amount)
                     ));
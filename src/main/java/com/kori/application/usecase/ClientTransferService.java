@@ -23,6 +23,7 @@ import com.kori.domain.model.transaction.TransactionId;
 import com.kori.domain.model.transaction.TransactionType;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
@@ -34,7 +35,6 @@ public final class ClientTransferService implements ClientTransferUseCase {
     private final TimeProviderPort timeProviderPort;
     private final IdGeneratorPort idGeneratorPort;
     private final ClientRepositoryPort clientRepositoryPort;
-    private final TransactionRepositoryPort transactionRepositoryPort;
     private final FeePolicyPort feePolicyPort;
     private final PlatformConfigPort platformConfigPort;
     private final LedgerAppendPort ledgerAppendPort;
@@ -48,7 +48,6 @@ public final class ClientTransferService implements ClientTransferUseCase {
                                  IdempotencyPort idempotencyPort,
                                  IdGeneratorPort idGeneratorPort,
                                  ClientRepositoryPort clientRepositoryPort,
-                                 TransactionRepositoryPort transactionRepositoryPort,
                                  FeePolicyPort feePolicyPort,
                                  PlatformConfigPort platformConfigPort,
                                  LedgerAppendPort ledgerAppendPort,
@@ -59,7 +58,6 @@ public final class ClientTransferService implements ClientTransferUseCase {
         this.timeProviderPort = timeProviderPort;
         this.idGeneratorPort = idGeneratorPort;
         this.clientRepositoryPort = clientRepositoryPort;
-        this.transactionRepositoryPort = transactionRepositoryPort;
         this.feePolicyPort = feePolicyPort;
         this.platformConfigPort = platformConfigPort;
         this.ledgerAppendPort = ledgerAppendPort;
@@ -106,14 +104,16 @@ public final class ClientTransferService implements ClientTransferUseCase {
                     Money maxPerTransaction = Money.of(platformConfig.clientTransferMaxPerTransaction());
                     TransactionAmountLimitGuard.ensureMaxPerTransaction(amount, maxPerTransaction, "CLIENT_TRANSFER");
 
+                    // Plafond journalier vérifié sous le verrou du compte débité ; le solde, par le débit gardé
+                    ledgerAccountLockPort.lockAll(List.of(senderAcc));
+
                     Instant now = timeProviderPort.now();
-                    Instant dayStart = ZonedDateTime.ofInstant(now, ZoneOffset.UTC).toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant();
-                    Instant nextDayStart = dayStart.plusSeconds(24 * 3600);
-                    Money alreadyTransferredToday = ledgerQueryPort.sumDebitsByTransactionTypeAndPeriod(
+                    LocalDate today = ZonedDateTime.ofInstant(now, ZoneOffset.UTC).toLocalDate();
+                    Money alreadyTransferredToday = ledgerQueryPort.sumDebitsByTransactionTypeAndDays(
                             senderAcc,
                             TransactionType.CLIENT_TRANSFER,
-                            dayStart,
-                            nextDayStart
+                            today,
+                            today.plusDays(1)
                     );
                     Money projectedToday = alreadyTransferredToday.plus(amount);
                     Money dailyMax = Money.of(platformConfig.clientTransferDailyMax());
@@ -125,23 +125,20 @@ public final class ClientTransferService implements ClientTransferUseCase {
                         ));
                     }
 
-                    ledgerAccountLockPort.lock(senderAcc);
-                    Money available = ledgerQueryPort.netBalance(senderAcc);
-                    if (totalDebited.isGreaterThan(available)) {
-                        throw new InsufficientFundsException(
-                                "Insufficient funds: need " + totalDebited + " but available " + available
-                        );
-                    }
-
                     TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
                     Transaction tx = Transaction.clientTransfer(txId, amount, now);
-                    tx = transactionRepositoryPort.save(tx);
 
-                    ledgerAppendPort.append(List.of(
+                    // Transaction, écritures et débit gardé en un seul appel
+                    boolean debited = ledgerAppendPort.postGuarded(tx, LedgerAppendPort.TransactionContext.of(command.actorContext()), List.of(
                             LedgerEntry.debit(tx.id(), senderAcc, totalDebited),
                             LedgerEntry.credit(tx.id(), recipientAcc, amount),
                             LedgerEntry.credit(tx.id(), feeAcc, fee)
-                    ));
+                    ), senderAcc).isPresent();
+                    if (!debited) {
+                        throw new InsufficientFundsException(
+                                "Insufficient funds: need " + totalDebited + " but available " + ledgerQueryPort.netBalance(senderAcc)
+                        );
+                    }
 
                     Map<String, String> metadata = new HashMap<>();
                     metadata.put("transactionId", tx.id().value().toString());
@@ -51,7 +51,6 @@ public final class EnrollCardService implements EnrollCardUseCase {
                              ClientRepositoryPort clientRepositoryPort,
                              CardRepositoryPort cardRepositoryPort,
                              AgentRepositoryPort agentRepositoryPort,
-                             TransactionRepositoryPort transactionRepositoryPort,
                              AccountProfilePort accountProfilePort,
                              FeePolicyPort feePolicyPort,
                              CommissionPolicyPort commissionPolicyPort,
@@ -74,7 +73,6 @@ public final class EnrollCardService implements EnrollCardUseCase {
                 idGeneratorPort,
                 cardRepositoryPort,
                 agentRepositoryPort,
-                transactionRepositoryPort,
                 feePolicyPort,
                 commissionPolicyPort,
                 ledgerAppendPort,
@@ -144,7 +142,7 @@ public final class EnrollCardService implements EnrollCardUseCase {
                     }
 
                     // Card enrollment workflow (create card, transaction, ledger entries, etc.)
-                    var outcome = enrollmentWorkflow.enrollCard(client, agent, command.cardUid(), command.pin(), now);
+                    var outcome = enrollmentWorkflow.enrollCard(command.actorContext(), client, agent, command.cardUid(), command.pin(), now);
 
                     // Audit
                     Map<String, String> metadata = new HashMap<>();
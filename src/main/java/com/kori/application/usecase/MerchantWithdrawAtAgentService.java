@@ -39,9 +39,7 @@ public final class MerchantWithdrawAtAgentService implements MerchantWithdrawAtA
     private final CommissionPolicyPort commissionPolicyPort;
 
     private final LedgerQueryPort ledgerQueryPort;
-    private final LedgerAccountLockPort ledgerAccountLockPort;
 
-    private final TransactionRepositoryPort transactionRepositoryPort;
     private final LedgerAppendPort ledgerAppendPort;
     private final AuditPort auditPort;
 
@@ -58,9 +56,7 @@ public final class MerchantWithdrawAtAgentService implements MerchantWithdrawAtA
                                           FeePolicyPort feePolicyPort,
                                           CommissionPolicyPort commissionPolicyPort,
                                           LedgerQueryPort ledgerQueryPort,
-                                          LedgerAccountLockPort ledgerAccountLockPort,
                                           PlatformConfigPort platformConfigPort,
-                                          TransactionRepositoryPort transactionRepositoryPort,
                                           LedgerAppendPort ledgerAppendPort,
                                           AuditPort auditPort,
                                           OperationAuthorizationService operationAuthorizationService) {
@@ -71,8 +67,6 @@ public final class MerchantWithdrawAtAgentService implements MerchantWithdrawAtA
         this.feePolicyPort = feePolicyPort;
         this.commissionPolicyPort = commissionPolicyPort;
         this.ledgerQueryPort = ledgerQueryPort;
-        this.ledgerAccountLockPort = ledgerAccountLockPort;
-        this.transactionRepositoryPort = transactionRepositoryPort;
         this.ledgerAppendPort = ledgerAppendPort;
         this.auditPort = auditPort;
         this.operationAuthorizationService = operationAuthorizationService;
@@ -121,31 +115,27 @@ public final class MerchantWithdrawAtAgentService implements MerchantWithdrawAtA
                     Money platformRevenue = breakdown.platformRevenue();
                     Money totalDebitedMerchant = amount.plus(fee);
 
-                    // Sufficient funds check (merchant)
-                    ledgerAccountLockPort.lock(merchantAcc);
-                    Money available = ledgerQueryPort.netBalance(merchantAcc);
-                    if (totalDebitedMerchant.isGreaterThan(available)) {
-                        throw new InsufficientFundsException(
-                                "Insufficient merchant funds: need " + totalDebitedMerchant + " but available " + available
-                        );
-                    }
-
                     agentRepositoryPort.findByIdForUpdate(agent.id());
                     agentCashLimitGuard.ensureProjectedBalanceWithinLimit(agent.id().value().toString(), Money.zero(), amount);
 
                     TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
                     Transaction tx = Transaction.merchantWithdrawAtAgent(txId, amount, now);
-                    tx = transactionRepositoryPort.save(tx);
 
                     var clearingAcc = LedgerAccountRef.agentCashClearing(agent.id().value().toString());
                     var feeAcc = LedgerAccountRef.platformFeeRevenue();
 
-                    ledgerAppendPort.append(List.of(
+                    // Sufficient funds check (merchant), appliqué par le débit gardé
+                    boolean debited = ledgerAppendPort.postGuarded(tx, LedgerAppendPort.TransactionContext.of(command.actorContext()), List.of(
                             LedgerEntry.debit(tx.id(), merchantAcc, totalDebitedMerchant),
                             LedgerEntry.credit(tx.id(), clearingAcc, amount),
                             LedgerEntry.credit(tx.id(), agentWalletAcc, commission),
                             LedgerEntry.credit(tx.id(), feeAcc, platformRevenue)
-                    ));
+                    ), merchantAcc).isPresent();
+                    if (!debited) {
+                        throw new InsufficientFundsException(
+                                "Insufficient merchant funds: need " + totalDebitedMerchant + " but available " + ledgerQueryPort.netBalance(merchantAcc)
+                        );
+                    }
 
                     Map<String, String> metadata = new HashMap<>();
                     metadata.put("transactionId", tx.id().value().toString());
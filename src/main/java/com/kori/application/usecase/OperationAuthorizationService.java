@@ -2,14 +2,16 @@ package com.kori.application.usecase;
 
 import com.kori.application.exception.ForbiddenOperationException;
 import com.kori.application.guard.ActorStatusGuards;
-import com.kori.application.port.out.AccountProfilePort;
+import com.kori.application.port.out.AccountStatusPort;
 import com.kori.domain.ledger.LedgerAccountRef;
+import com.kori.domain.model.account.AccountProfile;
 import com.kori.domain.model.agent.Agent;
 import com.kori.domain.model.client.Client;
 import com.kori.domain.model.common.Status;
 import com.kori.domain.model.merchant.Merchant;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Centralise toutes les règles de statut pour autoriser ou non une opération métier.
@@ -17,10 +19,10 @@ import java.util.Objects;
  */
 public class OperationAuthorizationService {
 
-    private final AccountProfilePort accountProfilePort;
+    private final AccountStatusPort accountStatusPort;
 
-    public OperationAuthorizationService(AccountProfilePort accountProfilePort) {
-        this.accountProfilePort = Objects.requireNonNull(accountProfilePort);
+    public OperationAuthorizationService(AccountStatusPort accountStatusPort) {
+        this.accountStatusPort = Objects.requireNonNull(accountStatusPort);
     }
 
     public void authorizeClientPayment(Client client) {
@@ -29,10 +31,13 @@ public class OperationAuthorizationService {
         LedgerAccountRef ref =
                 LedgerAccountRef.client(client.id().value().toString());
 
-        accountProfilePort.findByAccount(ref)
-                .filter(p -> p.status() == Status.ACTIVE)
-                .orElseThrow(() -> new ForbiddenOperationException("CLIENT_ACCOUNT_INACTIVE_OR_MISSING"));
+        requireActiveStatus(accountStatusPort.findStatus(ref), "CLIENT_ACCOUNT_INACTIVE_OR_MISSING");
+    }
 
+    /** Même règle, profil de compte déjà chargé par l'appelant (null si absent). */
+    public void authorizeClientPayment(Client client, AccountProfile clientAccount) {
+        ActorStatusGuards.requireActiveClient(client);
+        requireActiveStatus(Optional.ofNullable(clientAccount).map(AccountProfile::status), "CLIENT_ACCOUNT_INACTIVE_OR_MISSING");
     }
 
     public void authorizeMerchantPayment(Merchant merchant) {
@@ -41,10 +46,13 @@ public class OperationAuthorizationService {
         LedgerAccountRef ref =
                 LedgerAccountRef.merchant(merchant.id().value().toString());
 
-        accountProfilePort.findByAccount(ref)
-                .filter(p -> p.status() == Status.ACTIVE)
-                .orElseThrow(() -> new ForbiddenOperationException("MERCHANT_ACCOUNT_INACTIVE_OR_MISSING"));
+        requireActiveStatus(accountStatusPort.findStatus(ref), "MERCHANT_ACCOUNT_INACTIVE_OR_MISSING");
+    }
 
+    /** Même règle, profil de compte déjà chargé par l'appelant (null si absent). */
+    public void authorizeMerchantPayment(Merchant merchant, AccountProfile merchantAccount) {
+        ActorStatusGuards.requireActiveMerchant(merchant);
+        requireActiveStatus(Optional.ofNullable(merchantAccount).map(AccountProfile::status), "MERCHANT_ACCOUNT_INACTIVE_OR_MISSING");
     }
 
     public void authorizeAgentOperation(Agent agent) {
@@ -55,13 +63,13 @@ public class OperationAuthorizationService {
         LedgerAccountRef walletRef = LedgerAccountRef.agentWallet(agentId);
         LedgerAccountRef clearingRef = LedgerAccountRef.agentCashClearing(agentId);
 
-        accountProfilePort.findByAccount(walletRef)
-                .filter(p -> p.status() == Status.ACTIVE)
-                .orElseThrow(() -> new ForbiddenOperationException("AGENT_ACCOUNT_INACTIVE_OR_MISSING"));
+        requireActiveStatus(accountStatusPort.findStatus(walletRef), "AGENT_ACCOUNT_INACTIVE_OR_MISSING");
+        requireActiveStatus(accountStatusPort.findStatus(clearingRef), "AGENT_ACCOUNT_INACTIVE_OR_MISSING");
 
-        accountProfilePort.findByAccount(clearingRef)
-                .filter(p -> p.status() == Status.ACTIVE)
-                .orElseThrow(() -> new ForbiddenOperationException("AGENT_ACCOUNT_INACTIVE_OR_MISSING"));
+    }
 
+    private static void requireActiveStatus(Optional<Status> status, String message) {
+        status.filter(s -> s == Status.ACTIVE)
+                .orElseThrow(() -> new ForbiddenOperationException(message));
     }
 }
@@ -29,28 +29,26 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public final class PayByCardService implements PayByCardUseCase {
 
     private final TimeProviderPort timeProviderPort;
     private final IdGeneratorPort idGeneratorPort;
 
-    private final TerminalRepositoryPort terminalRepositoryPort;
-    private final MerchantRepositoryPort merchantRepositoryPort;
-    private final ClientRepositoryPort clientRepositoryPort;
+    private final PaymentContextReadPort paymentContextReadPort;
 
     private final CardRepositoryPort cardRepositoryPort;
 
-    private final TransactionRepositoryPort transactionRepositoryPort;
     private final FeePolicyPort feePolicyPort;
 
     private final CardSecurityPolicyPort cardSecurityPolicyPort;
 
     private final LedgerAppendPort ledgerAppendPort;
     private final LedgerQueryPort ledgerQueryPort;
-    private final LedgerAccountLockPort ledgerAccountLockPort;
 
     private final AuditPort auditPort;
+    private final TerminalActivityPort terminalActivityPort;
     private final PinHasherPort pinHasherPort;
     private final OperationAuthorizationService operationAuthorizationService;
     private final IdempotencyExecutor idempotencyExecutor;
@@ -59,38 +57,52 @@ public final class PayByCardService implements PayByCardUseCase {
     public PayByCardService(TimeProviderPort timeProviderPort,
                             IdempotencyPort idempotencyPort,
                             IdGeneratorPort idGeneratorPort,
-                            TerminalRepositoryPort terminalRepositoryPort,
-                            MerchantRepositoryPort merchantRepositoryPort,
-                            ClientRepositoryPort clientRepositoryPort,
+                            PaymentContextReadPort paymentContextReadPort,
                             CardRepositoryPort cardRepositoryPort,
-                            TransactionRepositoryPort transactionRepositoryPort,
                             FeePolicyPort feePolicyPort,
                             CardSecurityPolicyPort cardSecurityPolicyPort,
                             LedgerAppendPort ledgerAppendPort,
-                            LedgerQueryPort ledgerQueryPort, LedgerAccountLockPort ledgerAccountLockPort,
+                            LedgerQueryPort ledgerQueryPort,
                             AuditPort auditPort,
+                            TerminalActivityPort terminalActivityPort,
                             PinHasherPort pinHasherPort,
                             OperationAuthorizationService operationAuthorizationService,
                             PinFailureRecorder pinFailureRecorder) {
         this.timeProviderPort = timeProviderPort;
         this.idGeneratorPort = idGeneratorPort;
-        this.terminalRepositoryPort = terminalRepositoryPort;
-        this.merchantRepositoryPort = merchantRepositoryPort;
-        this.clientRepositoryPort = clientRepositoryPort;
+        this.paymentContextReadPort = paymentContextReadPort;
         this.cardRepositoryPort = cardRepositoryPort;
-        this.transactionRepositoryPort = transactionRepositoryPort;
         this.feePolicyPort = feePolicyPort;
         this.cardSecurityPolicyPort = cardSecurityPolicyPort;
         this.ledgerAppendPort = ledgerAppendPort;
         this.ledgerQueryPort = ledgerQueryPort;
-        this.ledgerAccountLockPort = ledgerAccountLockPort;
         this.auditPort = auditPort;
+        this.terminalActivityPort = terminalActivityPort;
         this.pinHasherPort = pinHasherPort;
         this.operationAuthorizationService = operationAuthorizationService;
         this.idempotencyExecutor = new IdempotencyExecutor(idempotencyPort);
         this.pinFailureRecorder = pinFailureRecorder;
     }
 
+    /**
+     * Vérification anticipée du PIN, hors transaction et sans effet de bord : une vérification réussie
+     * est mise en cache, l'exécution (éventuellement groupée avec d'autres) n'a plus à refaire le hash.
+     * N'échoue jamais : {@link #execute} refait tous les contrôles et produit l'erreur.
+     */
+    public void prefetch(PayByCardCommand command) {
+        try {
+            PinFormatValidator.validate(command.pin());
+            var context = paymentContextReadPort.loadPayByCardContext(
+                    TerminalUid.of(command.actorContext().actorRef()), command.cardUid());
+            Card card = context.card();
+            if (card != null) {
+                pinHasherPort.matches(card.cardUid(), command.pin(), card.hashedPin());
+            }
+        } catch (RuntimeException ignored) {
+            // contrôles refaits par execute
+        }
+    }
+
     @Override
     public PayByCardResult execute(PayByCardCommand command) {
         return idempotencyExecutor.execute(
@@ -103,26 +115,31 @@ public final class PayByCardService implements PayByCardUseCase {
 
                     String terminalUidStr = command.actorContext().actorRef();
                     TerminalUid terminalUid = TerminalUid.of(terminalUidStr);
-                    Terminal terminal = terminalRepositoryPort.findByUid(terminalUid)
+
+                    // Terminal, marchand, carte, client et profils de compte : une seule lecture
+                    var context = paymentContextReadPort.loadPayByCardContext(terminalUid, command.cardUid());
+
+                    Terminal terminal = Optional.ofNullable(context.terminal())
                             .orElseThrow(() -> new NotFoundException("Terminal not found"));
                     ActorStatusGuards.requireActiveTerminal(terminal);
+                    terminalActivityPort.recordActivity(terminalUid, timeProviderPort.now());
 
                     // Card
-                    Card card = cardRepositoryPort.findByCardUid(command.cardUid())
+                    Card card = Optional.ofNullable(context.card())
                             .orElseThrow(() -> new NotFoundException("Card not found"));
                     if (!card.isPayable()) {
                         throw new ForbiddenOperationException("Card not payable");
                     }
 
                     // Merchant
-                    Merchant merchant = merchantRepositoryPort.findById(terminal.merchantId())
+                    Merchant merchant = Optional.ofNullable(context.merchant())
                             .orElseThrow(() -> new NotFoundException("Merchant not found"));
-                    operationAuthorizationService.authorizeMerchantPayment(merchant);
+                    operationAuthorizationService.authorizeMerchantPayment(merchant, context.merchantAccount());
 
                     // Client
-                    Client client = clientRepositoryPort.findById(card.clientId())
+                    Client client = Optional.ofNullable(context.client())
                             .orElseThrow(() -> new NotFoundException("Client not found"));
-                    operationAuthorizationService.authorizeClientPayment(client);
+                    operationAuthorizationService.authorizeClientPayment(client, context.clientAccount());
 
                     int maxAttempts = cardSecurityPolicyPort.maxFailedPinAttempts();
                     if (maxAttempts <= 0) {
@@ -134,13 +151,19 @@ public final class PayByCardService implements PayByCardUseCase {
 
                     PinFormatValidator.validate(command.pin());
 
-                    if (!pinHasherPort.matches(command.pin(), card.hashedPin())) {
+                    if (!pinHasherPort.matches(card.cardUid(), command.pin(), card.hashedPin())) {
                         pinFailureRecorder.record(command.cardUid(), maxAttempts);
                         throw new ForbiddenOperationException("Invalid PIN");
                     }
 
-                    card.onPinSuccess();
-                    cardRepositoryPort.save(card);
+                    boolean cardChanged = card.onPinSuccess();
+                    if (pinHasherPort.needsRehash(card.hashedPin())) {
+                        card.rehashPin(pinHasherPort.hash(command.pin()));
+                        cardChanged = true;
+                    }
+                    if (cardChanged) {
+                        cardRepositoryPort.save(card);
+                    }
 
                     // accounts reference
                     var merchantAcc = LedgerAccountRef.merchant(merchant.id().value().toString());
@@ -152,25 +175,25 @@ public final class PayByCardService implements PayByCardUseCase {
                     Money fee = feePolicyPort.cardPaymentFee(amount);
                     Money totalDebited = amount.plus(fee);
 
-                    ledgerAccountLockPort.lock(merchantAcc);
-                    Money available = ledgerQueryPort.netBalance(clientAcc);
-                    if (totalDebited.isGreaterThan(available)) {
-                        throw new InsufficientFundsException(
-                                "Insufficient funds: need " + totalDebited + " but available " + available
-                        );
-                    }
-
                     Instant now = timeProviderPort.now();
 
                     TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
                     Transaction tx = Transaction.payByCard(txId, amount, now);
-                    tx = transactionRepositoryPort.save(tx);
 
-                    ledgerAppendPort.append(List.of(
+                    // Transaction, écritures et débit gardé (solde vérifié par le débit lui-même, sans verrou préalable)
+                    var transactionContext = LedgerAppendPort.TransactionContext.of(command.actorContext())
+                            .withTerminal(terminalUid)
+                            .withCard(command.cardUid());
+                    boolean debited = ledgerAppendPort.postGuarded(tx, transactionContext, List.of(
                             LedgerEntry.debit(tx.id(), clientAcc, totalDebited),
                             LedgerEntry.credit(tx.id(), merchantAcc, amount),
                             LedgerEntry.credit(tx.id(), feeAcc, fee)
-                    ));
+                    ), clientAcc).isPresent();
+                    if (!debited) {
+                        throw new InsufficientFundsException(
+                                "Insufficient funds: need " + totalDebited + " but available " + ledgerQueryPort.netBalance(clientAcc)
+                        );
+                    }
 
                     Map<String, String> metadata = new HashMap<>();
                     metadata.put("transactionId", tx.id().value().toString());
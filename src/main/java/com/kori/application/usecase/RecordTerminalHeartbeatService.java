@@ -0,0 +1,25 @@
+package com.kori.application.usecase;
+
+import com.kori.application.guard.ActorTypeGuards;
+import com.kori.application.port.in.RecordTerminalHeartbeatUseCase;
+import com.kori.application.port.out.TerminalActivityPort;
+import com.kori.application.port.out.TimeProviderPort;
+import com.kori.application.security.ActorContext;
+import com.kori.domain.model.terminal.TerminalUid;
+
+public class RecordTerminalHeartbeatService implements RecordTerminalHeartbeatUseCase {
+
+    private final TimeProviderPort timeProviderPort;
+    private final TerminalActivityPort terminalActivityPort;
+
+    public RecordTerminalHeartbeatService(TimeProviderPort timeProviderPort, TerminalActivityPort terminalActivityPort) {
+        this.timeProviderPort = timeProviderPort;
+        this.terminalActivityPort = terminalActivityPort;
+    }
+
+    @Override
+    public void execute(ActorContext actorContext) {
+        ActorTypeGuards.onlyTerminalCan(actorContext, "report activity");
+        terminalActivityPort.recordActivity(TerminalUid.of(actorContext.actorRef()), timeProviderPort.now());
+    }
+}
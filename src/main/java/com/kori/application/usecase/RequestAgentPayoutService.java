@@ -2,6 +2,7 @@ package com.kori.application.usecase;
 
 import com.kori.application.command.RequestAgentPayoutCommand;
 import com.kori.application.exception.ForbiddenOperationException;
+import com.kori.application.exception.InsufficientFundsException;
 import com.kori.application.exception.NotFoundException;
 import com.kori.application.guard.ActorStatusGuards;
 import com.kori.application.idempotency.IdempotencyExecutor;
@@ -34,8 +35,6 @@ public class RequestAgentPayoutService implements RequestAgentPayoutUseCase {
     private final AgentRepositoryPort agentRepositoryPort;
     private final LedgerAppendPort ledgerAppendPort;
     private final LedgerQueryPort ledgerQueryPort;
-    private final LedgerAccountLockPort ledgerAccountLockPort;
-    private final TransactionRepositoryPort transactionRepositoryPort;
     private final PayoutRepositoryPort payoutRepositoryPort;
     private final AuditPort auditPort;
     private final IdGeneratorPort idGeneratorPort;
@@ -45,8 +44,7 @@ public class RequestAgentPayoutService implements RequestAgentPayoutUseCase {
             TimeProviderPort timeProviderPort, AdminAccessService adminAccessService,
             IdempotencyPort idempotencyPort,
             AgentRepositoryPort agentRepositoryPort, LedgerAppendPort ledgerAppendPort,
-            LedgerQueryPort ledgerQueryPort, LedgerAccountLockPort ledgerAccountLockPort,
-            TransactionRepositoryPort transactionRepositoryPort,
+            LedgerQueryPort ledgerQueryPort,
             PayoutRepositoryPort payoutRepositoryPort,
             AuditPort auditPort, IdGeneratorPort idGeneratorPort) {
         this.timeProviderPort = timeProviderPort;
@@ -54,8 +52,6 @@ public class RequestAgentPayoutService implements RequestAgentPayoutUseCase {
         this.agentRepositoryPort = agentRepositoryPort;
         this.ledgerAppendPort = ledgerAppendPort;
         this.ledgerQueryPort = ledgerQueryPort;
-        this.ledgerAccountLockPort = ledgerAccountLockPort;
-        this.transactionRepositoryPort = transactionRepositoryPort;
         this.payoutRepositoryPort = payoutRepositoryPort;
         this.auditPort = auditPort;
         this.idGeneratorPort = idGeneratorPort;
@@ -85,7 +81,6 @@ public class RequestAgentPayoutService implements RequestAgentPayoutUseCase {
 
                     // Payout must compensate exactly what is due to the agent.
                     var agentWalletAcc = LedgerAccountRef.agentWallet(agentId.value().toString());
-                    ledgerAccountLockPort.lock(agentWalletAcc);
                     Money due = ledgerQueryPort.netBalance(agentWalletAcc);
 
                     if (due.isZero()) {
@@ -96,13 +91,18 @@ public class RequestAgentPayoutService implements RequestAgentPayoutUseCase {
 
                     TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
                     Transaction tx = Transaction.agentPayout(txId, due, now);
-                    transactionRepositoryPort.save(tx);
 
                     var platformClearingAcc = LedgerAccountRef.platformClearing();
-                    ledgerAppendPort.append(List.of(
+                    // Un payout concurrent a déjà soldé le wallet : le débit gardé échoue
+                    boolean debited = ledgerAppendPort.postGuarded(tx, LedgerAppendPort.TransactionContext.of(command.actorContext()), List.of(
                             LedgerEntry.debit(tx.id(), agentWalletAcc, due),
                             LedgerEntry.credit(tx.id(), platformClearingAcc, due)
-                    ));
+                    ), agentWalletAcc).isPresent();
+                    if (!debited) {
+                        throw new InsufficientFundsException(
+                                "Insufficient funds: payout of " + due + " exceeds agent wallet balance"
+                        );
+                    }
 
                     PayoutId payoutId = new PayoutId(idGeneratorPort.newUuid());
                     Payout payout = Payout.requested(payoutId, agentId, tx.id(), due, now);
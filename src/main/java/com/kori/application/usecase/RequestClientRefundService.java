@@ -2,6 +2,7 @@ package com.kori.application.usecase;
 
 import com.kori.application.command.RequestClientRefundCommand;
 import com.kori.application.exception.ForbiddenOperationException;
+import com.kori.application.exception.InsufficientFundsException;
 import com.kori.application.exception.NotFoundException;
 import com.kori.application.guard.ActorStatusGuards;
 import com.kori.application.idempotency.IdempotencyExecutor;
@@ -32,8 +33,6 @@ public class RequestClientRefundService implements RequestClientRefundUseCase {
     private final ClientRepositoryPort clientRepositoryPort;
     private final LedgerAppendPort ledgerAppendPort;
     private final LedgerQueryPort ledgerQueryPort;
-    private final LedgerAccountLockPort ledgerAccountLockPort;
-    private final TransactionRepositoryPort transactionRepositoryPort;
     private final ClientRefundRepositoryPort clientRefundRepositoryPort;
     private final AuditPort auditPort;
     private final IdGeneratorPort idGeneratorPort;
@@ -43,8 +42,7 @@ public class RequestClientRefundService implements RequestClientRefundUseCase {
                                       IdempotencyPort idempotencyPort,
                                       ClientRepositoryPort clientRepositoryPort,
                                       LedgerAppendPort ledgerAppendPort,
-                                      LedgerQueryPort ledgerQueryPort, LedgerAccountLockPort ledgerAccountLockPort,
-                                      TransactionRepositoryPort transactionRepositoryPort,
+                                      LedgerQueryPort ledgerQueryPort,
                                       ClientRefundRepositoryPort clientRefundRepositoryPort,
                                       AuditPort auditPort,
                                       IdGeneratorPort idGeneratorPort) {
@@ -53,8 +51,6 @@ public class RequestClientRefundService implements RequestClientRefundUseCase {
         this.clientRepositoryPort = clientRepositoryPort;
         this.ledgerAppendPort = ledgerAppendPort;
         this.ledgerQueryPort = ledgerQueryPort;
-        this.ledgerAccountLockPort = ledgerAccountLockPort;
-        this.transactionRepositoryPort = transactionRepositoryPort;
         this.clientRefundRepositoryPort = clientRefundRepositoryPort;
         this.auditPort = auditPort;
         this.idGeneratorPort = idGeneratorPort;
@@ -81,7 +77,6 @@ public class RequestClientRefundService implements RequestClientRefundUseCase {
                     }
 
                     var clientWallet = LedgerAccountRef.client(client.id().value().toString());
-                    ledgerAccountLockPort.lock(clientWallet);
                     Money due = ledgerQueryPort.netBalance(clientWallet);
                     if (due.isZero()) {
                         throw new ForbiddenOperationException("No refund due for client");
@@ -91,13 +86,18 @@ public class RequestClientRefundService implements RequestClientRefundUseCase {
 
                     TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
                     Transaction tx = Transaction.clientRefund(txId, due, now);
-                    transactionRepositoryPort.save(tx);
 
                     var refundClearing = LedgerAccountRef.platformClientRefundClearing();
-                    ledgerAppendPort.append(List.of(
+                    // Un paiement concurrent a pu débiter le wallet depuis la lecture : le débit gardé échoue
+                    boolean debited = ledgerAppendPort.postGuarded(tx, LedgerAppendPort.TransactionContext.of(cmd.actorContext()), List.of(
                             LedgerEntry.debit(tx.id(), clientWallet, due),
                             LedgerEntry.credit(tx.id(), refundClearing, due)
-                    ));
+                    ), clientWallet).isPresent();
+                    if (!debited) {
+                        throw new InsufficientFundsException(
+                                "Insufficient funds: refund of " + due + " exceeds client wallet balance"
+                        );
+                    }
 
                     ClientRefundId refundId = new ClientRefundId(idGeneratorPort.newUuid());
                     ClientRefund refund = ClientRefund.requested(refundId, client.id(), tx.id(), due, now);
@@ -13,6 +13,7 @@ import com.kori.domain.ledger.LedgerAccountRef;
 import com.kori.domain.ledger.LedgerAccountType;
 import com.kori.domain.ledger.LedgerEntry;
 import com.kori.domain.ledger.LedgerEntryType;
+import com.kori.domain.model.agent.AgentId;
 import com.kori.domain.model.common.Money;
 import com.kori.domain.model.config.FeeConfig;
 import com.kori.domain.model.transaction.Transaction;
@@ -22,6 +23,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Predicate;
 
 public final class ReversalService implements ReversalUseCase {
@@ -33,6 +35,7 @@ public final class ReversalService implements ReversalUseCase {
     private final TransactionRepositoryPort transactionRepositoryPort;
     private final LedgerQueryPort ledgerQueryPort;
     private final LedgerAppendPort ledgerAppendPort;
+    private final AgentRepositoryPort agentRepositoryPort;
     private final AuditPort auditPort;
     private final IdGeneratorPort idGeneratorPort;
     private final FeeConfigPort feeConfigPort;
@@ -45,6 +48,7 @@ public final class ReversalService implements ReversalUseCase {
                            TransactionRepositoryPort transactionRepositoryPort,
                            LedgerQueryPort ledgerQueryPort,
                            LedgerAppendPort ledgerAppendPort,
+                           AgentRepositoryPort agentRepositoryPort,
                            AuditPort auditPort,
                            IdGeneratorPort idGeneratorPort,
                            FeeConfigPort feeConfigPort,
@@ -54,6 +58,7 @@ public final class ReversalService implements ReversalUseCase {
         this.transactionRepositoryPort = transactionRepositoryPort;
         this.ledgerQueryPort = ledgerQueryPort;
         this.ledgerAppendPort = ledgerAppendPort;
+        this.agentRepositoryPort = agentRepositoryPort;
         this.auditPort = auditPort;
         this.idGeneratorPort = idGeneratorPort;
         this.feeConfigPort = feeConfigPort;
@@ -95,11 +100,10 @@ public final class ReversalService implements ReversalUseCase {
 
                     TransactionId txId = new TransactionId(idGeneratorPort.newUuid());
                     Transaction reversalTx = Transaction.reversal(txId, originalTxId, originalTx.amount(), now);
-                    transactionRepositoryPort.save(reversalTx);
 
                     List<LedgerEntry> reversalEntries = buildReversalEntries(originalTx, originalEntries, reversalTx.id());
 
-                    ledgerAppendPort.append(reversalEntries);
+                    ledgerAppendPort.post(reversalTx, LedgerAppendPort.TransactionContext.of(cmd.actorContext()), reversalEntries);
 
                     Map<String, String> metadata = new HashMap<>();
                     metadata.put("transactionId", reversalTx.id().value().toString());
@@ -134,6 +138,8 @@ public final class ReversalService implements ReversalUseCase {
             return;
         }
 
+        // Même verrou que cash-in, enrôlement, retrait et dépôt avant la lecture du cash clearing
+        agentRepositoryPort.findByIdForUpdate(new AgentId(UUID.fromString(cashClearingEntry.accountRef().ownerRef())));
         agentCashLimitGuard.ensureProjectedBalanceWithinLimit(
                 cashClearingEntry.accountRef().ownerRef(),
                 delta.debit,
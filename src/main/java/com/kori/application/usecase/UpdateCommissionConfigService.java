@@ -1,14 +1,17 @@
 package com.kori.application.usecase;
 
 import com.kori.application.command.UpdateCommissionConfigCommand;
+import com.kori.application.events.ConfigUpdatedEvent;
 import com.kori.application.exception.ValidationException;
 import com.kori.application.port.in.UpdateCommissionConfigUseCase;
 import com.kori.application.port.out.AuditPort;
+import com.kori.application.port.out.DomainEventPublisherPort;
 import com.kori.application.port.out.CommissionConfigPort;
 import com.kori.application.port.out.TimeProviderPort;
 import com.kori.application.result.CommissionConfigResult;
 import com.kori.application.utils.AuditBuilder;
 import com.kori.application.utils.ReasonNormalizer;
+import com.kori.domain.model.config.ConfigType;
 import com.kori.domain.model.config.CommissionConfig;
 
 import java.math.BigDecimal;
@@ -16,6 +19,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 public class UpdateCommissionConfigService implements UpdateCommissionConfigUseCase {
     private static final BigDecimal HUNDRED = new BigDecimal("100");
@@ -24,17 +28,20 @@ public class UpdateCommissionConfigService implements UpdateCommissionConfigUseC
     private final CommissionConfigPort commissionConfigPort;
     private final AuditPort auditPort;
     private final TimeProviderPort timeProviderPort;
+    private final DomainEventPublisherPort domainEventPublisherPort;
 
     public UpdateCommissionConfigService(
             AdminAccessService adminAccessService,
             CommissionConfigPort commissionConfigPort,
             AuditPort auditPort,
-            TimeProviderPort timeProviderPort
+            TimeProviderPort timeProviderPort,
+            DomainEventPublisherPort domainEventPublisherPort
     ) {
         this.adminAccessService = adminAccessService;
         this.commissionConfigPort = commissionConfigPort;
         this.auditPort = auditPort;
         this.timeProviderPort = timeProviderPort;
+        this.domainEventPublisherPort = domainEventPublisherPort;
     }
 
     @Override
@@ -71,6 +78,12 @@ public class UpdateCommissionConfigService implements UpdateCommissionConfigUseC
             metadata.put("previousMerchantWithdrawCommissionMax", toPlainString(cfg.merchantWithdrawCommissionMax()));
         });
 
+        domainEventPublisherPort.publish(new ConfigUpdatedEvent(
+                UUID.randomUUID().toString(),
+                now,
+                ConfigType.COMMISSION
+        ));
+
         auditPort.publish(AuditBuilder.buildBasicAudit(
                 "ADMIN_UPDATE_COMMISSION_CONFIG",
                 cmd.actorContext(),
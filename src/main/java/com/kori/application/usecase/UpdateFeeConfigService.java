@@ -1,14 +1,17 @@
 package com.kori.application.usecase;
 
 import com.kori.application.command.UpdateFeeConfigCommand;
+import com.kori.application.events.ConfigUpdatedEvent;
 import com.kori.application.exception.ValidationException;
 import com.kori.application.port.in.UpdateFeeConfigUseCase;
 import com.kori.application.port.out.AuditPort;
+import com.kori.application.port.out.DomainEventPublisherPort;
 import com.kori.application.port.out.FeeConfigPort;
 import com.kori.application.port.out.TimeProviderPort;
 import com.kori.application.result.FeeConfigResult;
 import com.kori.application.utils.AuditBuilder;
 import com.kori.application.utils.ReasonNormalizer;
+import com.kori.domain.model.config.ConfigType;
 import com.kori.domain.model.config.FeeConfig;
 
 import java.math.BigDecimal;
@@ -16,6 +19,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 public class UpdateFeeConfigService implements UpdateFeeConfigUseCase {
     private static final BigDecimal HUNDRED = new BigDecimal("100");
@@ -24,17 +28,20 @@ public class UpdateFeeConfigService implements UpdateFeeConfigUseCase {
     private final FeeConfigPort feeConfigPort;
     private final AuditPort auditPort;
     private final TimeProviderPort timeProviderPort;
+    private final DomainEventPublisherPort domainEventPublisherPort;
 
     public UpdateFeeConfigService(
             AdminAccessService adminAccessService,
             FeeConfigPort feeConfigPort,
             AuditPort auditPort,
-            TimeProviderPort timeProviderPort
+            TimeProviderPort timeProviderPort,
+            DomainEventPublisherPort domainEventPublisherPort
     ) {
         this.adminAccessService = adminAccessService;
         this.feeConfigPort = feeConfigPort;
         this.auditPort = auditPort;
         this.timeProviderPort = timeProviderPort;
+        this.domainEventPublisherPort = domainEventPublisherPort;
     }
 
     @Override
@@ -104,6 +111,12 @@ public class UpdateFeeConfigService implements UpdateFeeConfigUseCase {
             metadata.put("previousMerchantTransferFeeMax", cfg.merchantTransferFeeMax().toPlainString());
         });
 
+        domainEventPublisherPort.publish(new ConfigUpdatedEvent(
+                UUID.randomUUID().toString(),
+                now,
+                ConfigType.FEE
+        ));
+
         auditPort.publish(AuditBuilder.buildBasicAudit(
                 "ADMIN_UPDATE_FEE_CONFIG",
                 cmd.actorContext(),
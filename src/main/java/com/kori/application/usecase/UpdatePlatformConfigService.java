@@ -1,20 +1,24 @@
 package com.kori.application.usecase;
 
 import com.kori.application.command.UpdatePlatformConfigCommand;
+import com.kori.application.events.ConfigUpdatedEvent;
 import com.kori.application.exception.ValidationException;
 import com.kori.application.port.in.UpdatePlatformConfigUseCase;
 import com.kori.application.port.out.AuditPort;
+import com.kori.application.port.out.DomainEventPublisherPort;
 import com.kori.application.port.out.PlatformConfigPort;
 import com.kori.application.port.out.TimeProviderPort;
 import com.kori.application.result.PlatformConfigResult;
 import com.kori.application.utils.AuditBuilder;
 import com.kori.application.utils.ReasonNormalizer;
+import com.kori.domain.model.config.ConfigType;
 import com.kori.domain.model.config.PlatformConfig;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 public class UpdatePlatformConfigService implements UpdatePlatformConfigUseCase {
 
@@ -22,17 +26,20 @@ public class UpdatePlatformConfigService implements UpdatePlatformConfigUseCase
     private final PlatformConfigPort platformConfigPort;
     private final AuditPort auditPort;
     private final TimeProviderPort timeProviderPort;
+    private final DomainEventPublisherPort domainEventPublisherPort;
 
     public UpdatePlatformConfigService(
             AdminAccessService adminAccessService,
             PlatformConfigPort platformConfigPort,
             AuditPort auditPort,
-            TimeProviderPort timeProviderPort
+            TimeProviderPort timeProviderPort,
+            DomainEventPublisherPort domainEventPublisherPort
     ) {
         this.adminAccessService = adminAccessService;
         this.platformConfigPort = platformConfigPort;
         this.auditPort = auditPort;
         this.timeProviderPort = timeProviderPort;
+        this.domainEventPublisherPort = domainEventPublisherPort;
     }
 
     @Override
@@ -76,6 +83,12 @@ public class UpdatePlatformConfigService implements UpdatePlatformConfigUseCase
             metadata.put("previousMerchantWithdrawMinPerTransaction", cfg.merchantWithdrawMinPerTransaction().toPlainString());
         });
 
+        domainEventPublisherPort.publish(new ConfigUpdatedEvent(
+                UUID.randomUUID().toString(),
+                timeProviderPort.now(),
+                ConfigType.PLATFORM
+        ));
+
         auditPort.publish(AuditBuilder.buildBasicAudit(
                 "ADMIN_UPDATE_PLATFORM_CONFIG",
                 cmd.actorContext(),
@@ -1,9 +1,12 @@
 package com.kori.bootstrap;
 
+import com.kori.adapters.out.jpa.adapter.GroupCommitPayByCardUseCase;
 import com.kori.application.exception.NotFoundException;
 import com.kori.application.handler.OnAgentStatusChangedHandler;
 import com.kori.application.handler.OnClientStatusChangedHandler;
+import com.kori.application.handler.OnConfigUpdatedHandler;
 import com.kori.application.handler.OnMerchantStatusChangedHandler;
+import com.kori.application.handler.OnStatusChangedCacheHandler;
 import com.kori.application.port.in.*;
 import com.kori.application.port.out.*;
 import com.kori.application.usecase.*;
@@ -12,11 +15,15 @@ import com.kori.domain.model.card.Card;
 import com.kori.query.port.in.*;
 import com.kori.query.port.out.*;
 import com.kori.query.service.*;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+
 @Configuration
 public class ApplicationWiringConfig {
 
@@ -55,7 +62,6 @@ public class ApplicationWiringConfig {
             ClientRepositoryPort clientRepositoryPort,
             CardRepositoryPort cardRepositoryPort,
             AgentRepositoryPort agentRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             AccountProfilePort accountProfilePort,
             FeePolicyPort feePolicyPort,
             CommissionPolicyPort commissionPolicyPort,
@@ -73,7 +79,6 @@ public class ApplicationWiringConfig {
                 clientRepositoryPort,
                 cardRepositoryPort,
                 agentRepositoryPort,
-                transactionRepositoryPort,
                 accountProfilePort,
                 feePolicyPort,
                 commissionPolicyPort,
@@ -99,7 +104,6 @@ public class ApplicationWiringConfig {
             ClientRepositoryPort clientRepositoryPort,
             CardRepositoryPort cardRepositoryPort,
             AgentRepositoryPort agentRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             FeePolicyPort feePolicyPort,
             CommissionPolicyPort commissionPolicyPort,
             LedgerAppendPort ledgerAppendPort,
@@ -116,7 +120,6 @@ public class ApplicationWiringConfig {
                 clientRepositoryPort,
                 cardRepositoryPort,
                 agentRepositoryPort,
-                transactionRepositoryPort,
                 feePolicyPort,
                 commissionPolicyPort,
                 ledgerAppendPort,
@@ -137,19 +140,23 @@ public class ApplicationWiringConfig {
             TimeProviderPort timeProviderPort,
             IdempotencyPort idempotencyPort,
             IdGeneratorPort idGeneratorPort,
-            TerminalRepositoryPort terminalRepositoryPort,
-            MerchantRepositoryPort merchantRepositoryPort,
-            ClientRepositoryPort clientRepositoryPort,
+            PaymentContextReadPort paymentContextReadPort,
             CardRepositoryPort cardRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             FeePolicyPort feePolicyPort,
             CardSecurityPolicyPort cardSecurityPolicyPort,
             LedgerAppendPort ledgerAppendPort,
             LedgerQueryPort ledgerQueryPort,
-            LedgerAccountLockPort ledgerAccountLockPort,
             AuditPort auditPort,
+            TerminalActivityPort terminalActivityPort,
             PinHasherPort pinHasherPort,
-            OperationAuthorizationService operationAuthorizationService) {
+            OperationAuthorizationService operationAuthorizationService,
+            EntityManager entityManager,
+            DataSource dataSource,
+            @Value("${kori.payments.group-commit.enabled:false}") boolean groupCommitEnabled,
+            @Value("${kori.payments.group-commit.max-batch-size:64}") int groupCommitMaxBatchSize,
+            @Value("${kori.payments.group-commit.max-wait-us:5000}") long groupCommitMaxWaitMicros,
+            @Value("${kori.payments.group-commit.queue-capacity:4096}") int groupCommitQueueCapacity,
+            @Value("${kori.payments.group-commit.join-timeout-ms:2000}") long groupCommitJoinTimeoutMillis) {
 
         var txTemplate = new TransactionTemplate(transactionManager);
 
@@ -161,6 +168,7 @@ public class ApplicationWiringConfig {
                             .orElseThrow(() -> new NotFoundException("Card not found"));
                     cardToUpdate.onPinFailure(maxAttempts);
                     cardRepositoryPort.save(cardToUpdate);
+                    pinHasherPort.evict(cardUid);
                     return null;
                 });
 
@@ -168,24 +176,35 @@ public class ApplicationWiringConfig {
                 timeProviderPort,
                 idempotencyPort,
                 idGeneratorPort,
-                terminalRepositoryPort,
-                merchantRepositoryPort,
-                clientRepositoryPort,
+                paymentContextReadPort,
                 cardRepositoryPort,
-                transactionRepositoryPort,
                 feePolicyPort,
                 cardSecurityPolicyPort,
                 ledgerAppendPort,
                 ledgerQueryPort,
-                ledgerAccountLockPort,
                 auditPort,
+                terminalActivityPort,
                 pinHasherPort,
                 operationAuthorizationService,
                 recorder
         );
 
         // Make this @Transactional
-        return command -> txTemplate.execute(__ -> useCase.execute(command));
+        PayByCardUseCase singleTransaction = command -> txTemplate.execute(__ -> useCase.execute(command));
+        if (!groupCommitEnabled) {
+            return singleTransaction;
+        }
+        return new GroupCommitPayByCardUseCase(
+                useCase,
+                singleTransaction,
+                transactionManager,
+                entityManager,
+                dataSource,
+                groupCommitMaxBatchSize,
+                groupCommitMaxWaitMicros,
+                groupCommitQueueCapacity,
+                groupCommitJoinTimeoutMillis
+        );
     }
 
     @Bean
@@ -199,9 +218,7 @@ public class ApplicationWiringConfig {
             FeePolicyPort feePolicyPort,
             CommissionPolicyPort commissionPolicyPort,
             LedgerQueryPort ledgerQueryPort,
-            LedgerAccountLockPort ledgerAccountLockPort,
             PlatformConfigPort platformConfigPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             LedgerAppendPort ledgerAppendPort,
             AuditPort auditPort,
             OperationAuthorizationService operationAuthorizationService
@@ -215,9 +232,7 @@ public class ApplicationWiringConfig {
                 feePolicyPort,
                 commissionPolicyPort,
                 ledgerQueryPort,
-                ledgerAccountLockPort,
                 platformConfigPort,
-                transactionRepositoryPort,
                 ledgerAppendPort,
                 auditPort,
                 operationAuthorizationService
@@ -238,7 +253,6 @@ public class ApplicationWiringConfig {
             ClientRepositoryPort clientRepositoryPort,
             LedgerQueryPort ledgerQueryPort,
             PlatformConfigPort platformConfigPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             LedgerAppendPort ledgerAppendPort,
             AuditPort auditPort,
             OperationAuthorizationService operationAuthorizationService
@@ -251,7 +265,6 @@ public class ApplicationWiringConfig {
                 clientRepositoryPort,
                 ledgerQueryPort,
                 platformConfigPort,
-                transactionRepositoryPort,
                 ledgerAppendPort,
                 auditPort,
                 operationAuthorizationService
@@ -268,7 +281,6 @@ public class ApplicationWiringConfig {
             IdempotencyPort idempotencyPort,
             IdGeneratorPort idGeneratorPort,
             ClientRepositoryPort clientRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             FeePolicyPort feePolicyPort,
             PlatformConfigPort platformConfigPort,
             LedgerAppendPort ledgerAppendPort,
@@ -282,7 +294,6 @@ public class ApplicationWiringConfig {
                 idempotencyPort,
                 idGeneratorPort,
                 clientRepositoryPort,
-                transactionRepositoryPort,
                 feePolicyPort,
                 platformConfigPort,
                 ledgerAppendPort,
@@ -303,7 +314,6 @@ public class ApplicationWiringConfig {
             IdempotencyPort idempotencyPort,
             IdGeneratorPort idGeneratorPort,
             MerchantRepositoryPort merchantRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             FeePolicyPort feePolicyPort,
             PlatformConfigPort platformConfigPort,
             LedgerAppendPort ledgerAppendPort,
@@ -317,7 +327,6 @@ public class ApplicationWiringConfig {
                 idempotencyPort,
                 idGeneratorPort,
                 merchantRepositoryPort,
-                transactionRepositoryPort,
                 feePolicyPort,
                 platformConfigPort,
                 ledgerAppendPort,
@@ -339,10 +348,8 @@ public class ApplicationWiringConfig {
             IdempotencyPort idempotencyPort,
             IdGeneratorPort idGeneratorPort,
             AgentRepositoryPort agentRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             LedgerAppendPort ledgerAppendPort,
             LedgerQueryPort ledgerQueryPort,
-            LedgerAccountLockPort ledgerAccountLockPort,
             AuditPort auditPort
     ) {
         var useCase = new AdminReceiptAdminServiceAgentBankDeposit(
@@ -351,10 +358,8 @@ public class ApplicationWiringConfig {
                 idempotencyPort,
                 idGeneratorPort,
                 agentRepositoryPort,
-                transactionRepositoryPort,
                 ledgerAppendPort,
                 ledgerQueryPort,
-                ledgerAccountLockPort,
                 auditPort
         );
 
@@ -371,8 +376,6 @@ public class ApplicationWiringConfig {
             AgentRepositoryPort agentRepositoryPort,
             LedgerAppendPort ledgerAppendPort,
             LedgerQueryPort ledgerQueryPort,
-            LedgerAccountLockPort ledgerAccountLockPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             PayoutRepositoryPort payoutRepositoryPort,
             AuditPort auditPort,
             IdGeneratorPort idGeneratorPort
@@ -384,8 +387,6 @@ public class ApplicationWiringConfig {
                 agentRepositoryPort,
                 ledgerAppendPort,
                 ledgerQueryPort,
-                ledgerAccountLockPort,
-                transactionRepositoryPort,
                 payoutRepositoryPort,
                 auditPort,
                 idGeneratorPort
@@ -444,8 +445,6 @@ public class ApplicationWiringConfig {
             ClientRepositoryPort clientRepositoryPort,
             LedgerAppendPort ledgerAppendPort,
             LedgerQueryPort ledgerQueryPort,
-            LedgerAccountLockPort ledgerAccountLockPort,
-            TransactionRepositoryPort transactionRepositoryPort,
             ClientRefundRepositoryPort clientRefundRepositoryPort,
             AuditPort auditPort,
             IdGeneratorPort idGeneratorPort
@@ -457,8 +456,6 @@ public class ApplicationWiringConfig {
                 clientRepositoryPort,
                 ledgerAppendPort,
                 ledgerQueryPort,
-                ledgerAccountLockPort,
-                transactionRepositoryPort,
                 clientRefundRepositoryPort,
                 auditPort,
                 idGeneratorPort
@@ -517,6 +514,7 @@ public class ApplicationWiringConfig {
             TransactionRepositoryPort transactionRepositoryPort,
             LedgerQueryPort ledgerQueryPort,
             LedgerAppendPort ledgerAppendPort,
+            AgentRepositoryPort agentRepositoryPort,
             AuditPort auditPort,
             IdGeneratorPort idGeneratorPort,
             FeeConfigPort feeConfigPort,
@@ -529,6 +527,7 @@ public class ApplicationWiringConfig {
                 transactionRepositoryPort,
                 ledgerQueryPort,
                 ledgerAppendPort,
+                agentRepositoryPort,
                 auditPort,
                 idGeneratorPort,
                 feeConfigPort,
@@ -631,13 +630,15 @@ public class ApplicationWiringConfig {
             AgentRepositoryPort agentRepositoryPort,
             TimeProviderPort timeProviderPort,
             CardRepositoryPort cardRepositoryPort,
-            AuditPort auditPort
+            AuditPort auditPort,
+            PinHasherPort pinHasherPort
     ) {
         return new AgentUpdateCardStatusService(
                 agentRepositoryPort,
                 timeProviderPort,
                 cardRepositoryPort,
-                auditPort
+                auditPort,
+                pinHasherPort
         );
     }
 
@@ -661,13 +662,15 @@ public class ApplicationWiringConfig {
             AdminAccessService adminAccessService,
             TimeProviderPort timeProviderPort,
             CardRepositoryPort cardRepositoryPort,
-            AuditPort auditPort
+            AuditPort auditPort,
+            PinHasherPort pinHasherPort
     ) {
         return new AdminUpdateCardStatusService(
                 adminAccessService,
                 timeProviderPort,
                 cardRepositoryPort,
-                auditPort
+                auditPort,
+                pinHasherPort
         );
     }
 
@@ -781,13 +784,15 @@ public class ApplicationWiringConfig {
             AdminAccessService adminAccessService,
             FeeConfigPort feeConfigPort,
             AuditPort auditPort,
-            TimeProviderPort timeProviderPort
+            TimeProviderPort timeProviderPort,
+            DomainEventPublisherPort domainEventPublisherPort
     ) {
         return new UpdateFeeConfigService(
                 adminAccessService,
                 feeConfigPort,
                 auditPort,
-                timeProviderPort
+                timeProviderPort,
+                domainEventPublisherPort
         );
     }
 
@@ -796,13 +801,15 @@ public class ApplicationWiringConfig {
             AdminAccessService adminAccessService,
             CommissionConfigPort commissionConfigPort,
             AuditPort auditPort,
-            TimeProviderPort timeProviderPort
+            TimeProviderPort timeProviderPort,
+            DomainEventPublisherPort domainEventPublisherPort
     ) {
         return new UpdateCommissionConfigService(
                 adminAccessService,
                 commissionConfigPort,
                 auditPort,
-                timeProviderPort
+                timeProviderPort,
+                domainEventPublisherPort
         );
     }
 
@@ -811,16 +818,26 @@ public class ApplicationWiringConfig {
             AdminAccessService adminAccessService,
             PlatformConfigPort platformConfigPort,
             AuditPort auditPort,
-            TimeProviderPort timeProviderPort
+            TimeProviderPort timeProviderPort,
+            DomainEventPublisherPort domainEventPublisherPort
     ) {
         return new UpdatePlatformConfigService(
                 adminAccessService,
                 platformConfigPort,
                 auditPort,
-                timeProviderPort
+                timeProviderPort,
+                domainEventPublisherPort
         );
     }
 
+    @Bean
+    public RecordTerminalHeartbeatUseCase recordTerminalHeartbeatUseCase(
+            TimeProviderPort timeProviderPort,
+            TerminalActivityPort terminalActivityPort
+    ) {
+        return new RecordTerminalHeartbeatService(timeProviderPort, terminalActivityPort);
+    }
+
     @Bean
     public GetFeeConfigUseCase getFeeConfigUseCase(
             AdminAccessService adminAccessService,
@@ -859,8 +876,8 @@ public class ApplicationWiringConfig {
     // -----------------------------
 
     @Bean
-    public OperationAuthorizationService operationStatusGuards(AccountProfilePort accountProfilePort) {
-        return new OperationAuthorizationService(accountProfilePort);
+    public OperationAuthorizationService operationStatusGuards(AccountStatusPort accountStatusPort) {
+        return new OperationAuthorizationService(accountStatusPort);
     }
 
     // -----------------------------
@@ -882,14 +899,12 @@ public class ApplicationWiringConfig {
     @Bean
     public SearchTransactionHistoryUseCase searchTransactionHistoryUseCase(
             AdminAccessService adminAccessService,
-            LedgerQueryPort ledgerQueryPort,
-            TransactionRepositoryPort transactionRepositoryPort,
+            TransactionHistoryReadPort transactionHistoryReadPort,
             LedgerOwnerRefResolver ledgerOwnerRefResolver
     ) {
         return new SearchTransactionHistoryService(
                 adminAccessService,
-                ledgerQueryPort,
-                transactionRepositoryPort,
+                transactionHistoryReadPort,
                 ledgerOwnerRefResolver
         );
     }
@@ -937,12 +952,23 @@ public class ApplicationWiringConfig {
     // Handlers
     // -----------------------------
 
+    @Bean
+    public OnConfigUpdatedHandler onConfigUpdatedHandler(ConfigCachePort configCachePort) {
+        return new OnConfigUpdatedHandler(configCachePort);
+    }
+
+    @Bean
+    public OnStatusChangedCacheHandler onStatusChangedCacheHandler(AccountStatusPort accountStatusPort) {
+        return new OnStatusChangedCacheHandler(accountStatusPort);
+    }
+
     @Bean
     public OnClientStatusChangedHandler onClientStatusChangedHandler(
             AccountProfilePort accountProfilePort,
-            CardRepositoryPort cardRepositoryPort
+            CardRepositoryPort cardRepositoryPort,
+            PinHasherPort pinHasherPort
     ) {
-        return new OnClientStatusChangedHandler(accountProfilePort, cardRepositoryPort);
+        return new OnClientStatusChangedHandler(accountProfilePort, cardRepositoryPort, pinHasherPort);
     }
 
     @Bean
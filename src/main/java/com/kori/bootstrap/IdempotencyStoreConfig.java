@@ -0,0 +1,38 @@
+package com.kori.bootstrap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kori.adapters.out.jpa.adapter.JpaIdempotencyAdapter;
+import com.kori.adapters.out.memory.InMemoryIdempotencyAdapter;
+import com.kori.application.port.out.IdempotencyPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyStoreConfig {
+
+    /**
+     * kori.idempotency.store : postgres (idempotency_records), unlogged (idempotency_records_unlogged)
+     * ou memory (mono-nœud / dev).
+     */
+    @Bean
+    public IdempotencyPort idempotencyPort(
+            ObjectMapper objectMapper,
+            @Value("${kori.idempotency.store:postgres}") String store,
+            @Value("${kori.idempotency.ttl:PT24H}") Duration idempotencyTtl,
+            @Value("${kori.idempotency.completed-cache.enabled:true}") boolean completedCacheEnabled,
+            @Value("${kori.idempotency.completed-cache.ttl:PT10M}") Duration completedCacheTtl,
+            @Value("${kori.idempotency.completed-cache.max-size:10000}") int completedCacheMaxSize) {
+        return JpaIdempotencyAdapter.tableFor(store)
+                .<IdempotencyPort>map(table -> new JpaIdempotencyAdapter(
+                        objectMapper,
+                        table,
+                        idempotencyTtl,
+                        completedCacheEnabled,
+                        completedCacheTtl,
+                        completedCacheMaxSize))
+                .orElseGet(() -> new InMemoryIdempotencyAdapter(idempotencyTtl));
+    }
+}
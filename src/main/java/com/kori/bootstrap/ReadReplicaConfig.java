@@ -0,0 +1,66 @@
+package com.kori.bootstrap;
+
+import com.kori.adapters.out.jpa.query.common.ReplicaLagMonitor;
+import com.kori.adapters.out.jpa.query.common.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Côté query (adapters de lecture, consultation du ledger) : replica PostgreSQL en lecture seule.
+ * Les beans replica ne sont pas candidats par défaut : l'auto-configuration du DataSource primaire
+ * et les injections non qualifiées restent inchangées.
+ * Sans replica (kori.read-replica.enabled=false), queryJdbcTemplate est le template primaire.
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    @Bean(defaultCandidate = false, destroyMethod = "close")
+    @ConditionalOnProperty(name = "kori.read-replica.enabled", havingValue = "true")
+    public HikariDataSource replicaDataSource(
+            @Value("${kori.read-replica.url}") String url,
+            @Value("${kori.read-replica.username}") String username,
+            @Value("${kori.read-replica.password}") String password,
+            @Value("${kori.read-replica.max-pool-size:10}") int maxPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("kori-replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        dataSource.setReadOnly(true);
+        dataSource.addDataSourceProperty("ApplicationName", "kori-replica");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "kori.read-replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${kori.read-replica.max-lag-ms:2000}") long maxLagMs,
+            @Value("${kori.read-replica.lag-check-interval-ms:1000}") long checkIntervalMs) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), maxLagMs, checkIntervalMs);
+    }
+
+    @Bean(defaultCandidate = false)
+    public NamedParameterJdbcTemplate queryJdbcTemplate(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+            ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (replica == null || monitor == null) {
+            return jdbcTemplate;
+        }
+        return new NamedParameterJdbcTemplate(new ReplicaRoutingDataSource(dataSource, replica, monitor));
+    }
+}
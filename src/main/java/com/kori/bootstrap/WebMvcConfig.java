@@ -1,9 +1,11 @@
 package com.kori.bootstrap;
 
 import com.kori.adapters.in.rest.ActorContextArgumentResolver;
+import com.kori.adapters.in.rest.ReadYourWritesInterceptor;
 import com.kori.application.security.ActorContextClaimsExtractor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -17,4 +19,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new ActorContextArgumentResolver(actorContextClaimsExtractor));
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor());
+    }
 }
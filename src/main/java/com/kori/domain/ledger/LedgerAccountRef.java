@@ -8,6 +8,9 @@ import java.util.Objects;
  * - Pour les comptes système : ownerRef = "SYSTEM"
  */
 public record LedgerAccountRef(LedgerAccountType type, String ownerRef) {
+
+    public static final String SYSTEM_OWNER_REF = "SYSTEM";
+
     public LedgerAccountRef(LedgerAccountType type, String ownerRef) {
         this.type = Objects.requireNonNull(type, "type");
         this.ownerRef = Objects.requireNonNull(ownerRef, "ownerRef").trim();
@@ -33,19 +36,19 @@ public record LedgerAccountRef(LedgerAccountType type, String ownerRef) {
     }
 
     public static LedgerAccountRef platformFeeRevenue() {
-        return new LedgerAccountRef(LedgerAccountType.PLATFORM_FEE_REVENUE, "SYSTEM");
+        return new LedgerAccountRef(LedgerAccountType.PLATFORM_FEE_REVENUE, SYSTEM_OWNER_REF);
     }
 
     public static LedgerAccountRef platformClearing() {
-        return new LedgerAccountRef(LedgerAccountType.PLATFORM_CLEARING, "SYSTEM");
+        return new LedgerAccountRef(LedgerAccountType.PLATFORM_CLEARING, SYSTEM_OWNER_REF);
     }
 
     public static LedgerAccountRef platformBank() {
-        return new LedgerAccountRef(LedgerAccountType.PLATFORM_BANK, "SYSTEM");
+        return new LedgerAccountRef(LedgerAccountType.PLATFORM_BANK, SYSTEM_OWNER_REF);
     }
 
     public static LedgerAccountRef platformClientRefundClearing() {
-        return new LedgerAccountRef(LedgerAccountType.PLATFORM_CLIENT_REFUND_CLEARING, "SYSTEM");
+        return new LedgerAccountRef(LedgerAccountType.PLATFORM_CLIENT_REFUND_CLEARING, SYSTEM_OWNER_REF);
     }
 
     public static LedgerAccountRef of(String accountType, String ownerRef) {
@@ -72,4 +75,8 @@ public record LedgerAccountRef(LedgerAccountType type, String ownerRef) {
         return this.type == LedgerAccountType.MERCHANT;
     }
 
+    public boolean isSystemAccount() {
+        return SYSTEM_OWNER_REF.equals(this.ownerRef);
+    }
+
 }
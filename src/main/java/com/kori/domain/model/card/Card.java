@@ -11,7 +11,7 @@ public final class Card {
     private final CardId id;
     private final ClientId clientId;
     private final String cardUid;
-    private final HashedPin hashedPin;
+    private HashedPin hashedPin;
 
     private CardStatus status;
     private int failedPinAttempts;
@@ -79,10 +79,18 @@ public final class Card {
     // PIN attempts rules
     // -----------------
 
-    public void onPinSuccess() {
+    /** @return true si l'état a changé (compteur d'échecs remis à zéro), false sinon : rien à persister. */
+    public boolean onPinSuccess() {
         if (failedPinAttempts > 0) {
             failedPinAttempts = 0;
+            return true;
         }
+        return false;
+    }
+
+    /** Remplace le hash du même PIN (migration de paramètres de hachage), après vérification réussie. */
+    public void rehashPin(HashedPin newHashedPin) {
+        this.hashedPin = Objects.requireNonNull(newHashedPin, "hashedPin");
     }
 
     public void onPinFailure(int maxAttempts) {
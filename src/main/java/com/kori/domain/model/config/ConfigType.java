@@ -0,0 +1,11 @@
+package com.kori.domain.model.config;
+
+/**
+ * Lignes de configuration singleton (id = 1) de la plateforme.
+ */
+public enum ConfigType {
+    FEE,
+    PLATFORM,
+    COMMISSION,
+    SECURITY
+}
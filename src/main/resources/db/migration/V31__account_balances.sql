@@ -0,0 +1,19 @@
+-- Projection des soldes par compte ledger, maintenue à chaque append (même transaction).
+
+CREATE TABLE IF NOT EXISTS account_balances (
+    account_type varchar(32)              NOT NULL,
+    owner_ref    varchar(128)             NOT NULL,
+    balance      numeric(19,2)            NOT NULL DEFAULT 0,
+    updated_at   timestamp(6) with time zone NOT NULL DEFAULT now(),
+    CONSTRAINT pk_account_balances PRIMARY KEY (account_type, owner_ref)
+);
+
+-- Backfill depuis les écritures existantes
+INSERT INTO account_balances (account_type, owner_ref, balance, updated_at)
+SELECT le.account_type,
+       le.owner_ref,
+       COALESCE(SUM(CASE WHEN le.entry_type = 'CREDIT' THEN le.amount ELSE -le.amount END), 0),
+       now()
+FROM ledger_entries le
+GROUP BY le.account_type, le.owner_ref
+ON CONFLICT (account_type, owner_ref) DO NOTHING;
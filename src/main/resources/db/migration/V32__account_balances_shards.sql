@@ -0,0 +1,10 @@
+-- Comptes SYSTEM : la projection est éclatée sur N lignes (shards) pour éviter un hotspot.
+-- Les comptes titulaires restent sur le shard 0 ; le solde d'un compte = SUM(balance) sur ses shards.
+
+ALTER TABLE account_balances
+    ADD COLUMN IF NOT EXISTS shard smallint NOT NULL DEFAULT 0;
+
+ALTER TABLE account_balances DROP CONSTRAINT IF EXISTS pk_account_balances;
+
+ALTER TABLE account_balances
+    ADD CONSTRAINT pk_account_balances PRIMARY KEY (account_type, owner_ref, shard);
@@ -0,0 +1,7 @@
+-- Version des lignes de configuration singleton (id = 1) : incrémentée à chaque mise à jour,
+-- utilisée par les caches applicatifs pour converger entre instances.
+
+ALTER TABLE fee_config        ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE platform_config   ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE commission_config ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE security_config   ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,27 @@
+-- Cumul journalier (jour UTC de la transaction) des débits par compte titulaire et type de transaction.
+-- Maintenu à chaque append ; sert aux plafonds (jour, semaine, mois = SUM sur quelques lignes).
+
+CREATE TABLE IF NOT EXISTS account_spend_counters (
+    account_type     varchar(32)                 NOT NULL,
+    owner_ref        varchar(128)                NOT NULL,
+    transaction_type varchar(64)                 NOT NULL,
+    day              date                        NOT NULL,
+    debited          numeric(19,2)               NOT NULL DEFAULT 0,
+    updated_at       timestamp(6) with time zone NOT NULL DEFAULT now(),
+    CONSTRAINT pk_account_spend_counters PRIMARY KEY (account_type, owner_ref, transaction_type, day)
+);
+
+-- Backfill depuis les écritures existantes (comptes SYSTEM exclus)
+INSERT INTO account_spend_counters (account_type, owner_ref, transaction_type, day, debited, updated_at)
+SELECT le.account_type,
+       le.owner_ref,
+       t.type,
+       (t.created_at AT TIME ZONE 'UTC')::date,
+       SUM(le.amount),
+       now()
+FROM ledger_entries le
+JOIN transactions t ON t.id = le.transaction_id
+WHERE le.entry_type = 'DEBIT'
+  AND le.owner_ref <> 'SYSTEM'
+GROUP BY le.account_type, le.owner_ref, t.type, (t.created_at AT TIME ZONE 'UTC')::date
+ON CONFLICT (account_type, owner_ref, transaction_type, day) DO NOTHING;
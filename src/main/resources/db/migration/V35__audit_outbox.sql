@@ -0,0 +1,12 @@
+-- Outbox des événements d'audit : écrite dans la transaction métier (aucun index secondaire),
+-- relayée par lots vers audit_events par AuditOutboxRelayScheduler.
+
+CREATE TABLE IF NOT EXISTS audit_outbox (
+    seq           bigserial                   PRIMARY KEY,
+    id            uuid                        NOT NULL,
+    action        varchar(128)                NOT NULL,
+    actor_type    varchar(32)                 NOT NULL,
+    actor_id      varchar(128)                NOT NULL,
+    occurred_at   timestamp(6) with time zone NOT NULL,
+    metadata_json text                        NOT NULL
+);
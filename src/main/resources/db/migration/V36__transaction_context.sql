@@ -0,0 +1,39 @@
+-- Contexte d'une transaction (terminal, carte, acteur initiateur), écrit avec l'événement d'audit
+-- qui la référence (metadata transactionId). Remplace les recherches JSONB sur audit_events.
+
+CREATE TABLE IF NOT EXISTS transaction_context (
+    transaction_id uuid                        PRIMARY KEY,
+    terminal_uid   varchar(128),
+    card_uid       varchar(128),
+    actor_type     varchar(32)                 NOT NULL,
+    actor_ref      varchar(128)                NOT NULL,
+    created_at     timestamp(6) with time zone NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_context_terminal_uid ON transaction_context (terminal_uid);
+CREATE INDEX IF NOT EXISTS idx_transaction_context_card_uid ON transaction_context (card_uid);
+CREATE INDEX IF NOT EXISTS idx_transaction_context_actor ON transaction_context (actor_type, actor_ref);
+
+-- Backfill depuis le journal d'audit (et l'outbox non encore relayée)
+INSERT INTO transaction_context (transaction_id, terminal_uid, card_uid, actor_type, actor_ref, created_at)
+SELECT ev.transaction_id,
+       (array_agg(ev.terminal_uid ORDER BY ev.occurred_at, ev.id) FILTER (WHERE ev.terminal_uid <> ''))[1],
+       (array_agg(ev.card_uid ORDER BY ev.occurred_at, ev.id) FILTER (WHERE ev.card_uid <> ''))[1],
+       (array_agg(ev.actor_type ORDER BY ev.occurred_at, ev.id))[1],
+       (array_agg(ev.actor_id ORDER BY ev.occurred_at, ev.id))[1],
+       min(ev.occurred_at)
+FROM (
+    SELECT (m ->> 'transactionId')::uuid AS transaction_id,
+           m ->> 'terminalUid' AS terminal_uid,
+           m ->> 'cardUid' AS card_uid,
+           src.actor_type, src.actor_id, src.occurred_at, src.id
+    FROM (
+        SELECT id, actor_type, actor_id, occurred_at, metadata_json::jsonb AS m FROM audit_events
+        UNION ALL
+        SELECT id, actor_type, actor_id, occurred_at, metadata_json::jsonb AS m FROM audit_outbox
+    ) src
+    WHERE src.m ->> 'transactionId' ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$'
+) ev
+JOIN transactions t ON t.id = ev.transaction_id
+GROUP BY ev.transaction_id
+ON CONFLICT (transaction_id) DO NOTHING;
@@ -0,0 +1,28 @@
+-- Contreparties typées sur transactions (dernière écriture MERCHANT / AGENT_WALLET / CLIENT),
+-- renseignées à l'append ledger. Remplacent les LATERAL sur ledger_entries et les jointures id::text.
+
+ALTER TABLE transactions
+    ADD COLUMN IF NOT EXISTS merchant_id uuid,
+    ADD COLUMN IF NOT EXISTS agent_id uuid,
+    ADD COLUMN IF NOT EXISTS client_id uuid;
+
+-- Backfill : même règle que les anciennes requêtes (created_at DESC, id DESC)
+UPDATE transactions t
+SET merchant_id = x.merchant_id,
+    agent_id = x.agent_id,
+    client_id = x.client_id
+FROM (
+    SELECT le.transaction_id,
+           (array_agg(le.owner_ref::uuid ORDER BY le.created_at DESC NULLS LAST, le.id DESC) FILTER (WHERE le.account_type = 'MERCHANT'))[1] AS merchant_id,
+           (array_agg(le.owner_ref::uuid ORDER BY le.created_at DESC NULLS LAST, le.id DESC) FILTER (WHERE le.account_type = 'AGENT_WALLET'))[1] AS agent_id,
+           (array_agg(le.owner_ref::uuid ORDER BY le.created_at DESC NULLS LAST, le.id DESC) FILTER (WHERE le.account_type = 'CLIENT'))[1] AS client_id
+    FROM ledger_entries le
+    WHERE le.account_type IN ('MERCHANT', 'AGENT_WALLET', 'CLIENT')
+      AND le.owner_ref ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$'
+    GROUP BY le.transaction_id
+) x
+WHERE x.transaction_id = t.id;
+
+CREATE INDEX IF NOT EXISTS idx_transactions_merchant ON transactions (merchant_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_transactions_agent ON transactions (agent_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_transactions_client ON transactions (client_id, created_at, id);
@@ -0,0 +1,16 @@
+-- Dernière activité connue par terminal (paiements, endpoints /terminal/me),
+-- alimentée par lots (TerminalActivityFlushScheduler). Remplace MAX(audit_events.occurred_at).
+
+CREATE TABLE IF NOT EXISTS terminal_activity (
+    terminal_uid varchar(36)                 PRIMARY KEY,
+    last_seen_at timestamp(6) with time zone NOT NULL
+);
+
+-- Backfill depuis le journal d'audit
+INSERT INTO terminal_activity (terminal_uid, last_seen_at)
+SELECT ae.actor_id, MAX(ae.occurred_at)
+FROM audit_events ae
+JOIN terminals t ON t.terminal_uid = ae.actor_id
+WHERE ae.actor_type = 'TERMINAL'
+GROUP BY ae.actor_id
+ON CONFLICT (terminal_uid) DO NOTHING;
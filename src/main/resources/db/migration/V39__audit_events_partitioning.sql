@@ -0,0 +1,52 @@
+-- audit_events partitionnée par jour (occurred_at, UTC) : la rétention détache et supprime
+-- les partitions expirées au lieu d'un DELETE massif (voir JpaDataRetentionAdapter).
+-- Partition DEFAULT : filet de sécurité, un INSERT hors plage ne doit jamais échouer.
+-- Les partitions à venir sont créées par PartitionMaintenanceScheduler.
+
+ALTER TABLE audit_events RENAME TO audit_events_legacy;
+
+CREATE TABLE audit_events (
+    occurred_at   timestamp(6) with time zone NOT NULL,
+    id            uuid                        NOT NULL,
+    actor_type    varchar(32)                 NOT NULL,
+    action        varchar(128)                NOT NULL,
+    actor_id      varchar(128)                NOT NULL,
+    metadata_json text                        NOT NULL
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE audit_events_default PARTITION OF audit_events DEFAULT;
+
+DO $$
+DECLARE
+    d date := LEAST(
+        COALESCE((SELECT MIN((occurred_at AT TIME ZONE 'UTC')::date) FROM audit_events_legacy), CURRENT_DATE),
+        CURRENT_DATE);
+BEGIN
+    WHILE d <= CURRENT_DATE + 7 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_events FOR VALUES FROM (%L) TO (%L)',
+            'audit_events_p' || to_char(d, 'YYYYMMDD'),
+            d::text || ' 00:00:00+00',
+            (d + 1)::text || ' 00:00:00+00');
+        d := d + 1;
+    END LOOP;
+END $$;
+
+INSERT INTO audit_events (occurred_at, id, actor_type, action, actor_id, metadata_json)
+SELECT occurred_at, id, actor_type, action, actor_id, metadata_json
+FROM audit_events_legacy;
+
+DROP TABLE audit_events_legacy;
+
+ALTER TABLE audit_events ADD CONSTRAINT audit_events_pkey PRIMARY KEY (id, occurred_at);
+
+CREATE INDEX IF NOT EXISTS idx_audit_action ON audit_events (action);
+CREATE INDEX IF NOT EXISTS idx_audit_occurred_at ON audit_events (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_audit_events_occurred_id_desc ON audit_events (occurred_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_events_terminal_last_seen ON audit_events (actor_type, actor_id, occurred_at DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_events_actor_occurred_id ON audit_events (actor_type, actor_id, occurred_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_events_meta_transaction_id ON audit_events (((metadata_json::jsonb ->> 'transactionId')));
+CREATE INDEX IF NOT EXISTS idx_audit_events_meta_terminal_uid ON audit_events (((metadata_json::jsonb ->> 'terminalUid')));
+CREATE INDEX IF NOT EXISTS idx_audit_events_meta_card_uid ON audit_events (((metadata_json::jsonb ->> 'cardUid')));
+CREATE INDEX IF NOT EXISTS idx_audit_events_meta_resource_type ON audit_events (((metadata_json::jsonb ->> 'resourceType')));
+CREATE INDEX IF NOT EXISTS idx_audit_events_meta_resource_ref ON audit_events (((metadata_json::jsonb ->> 'resourceRef')));
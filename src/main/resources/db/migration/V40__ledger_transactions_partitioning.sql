@@ -0,0 +1,101 @@
+-- transactions et ledger_entries partitionnées par mois (created_at, UTC) : <table>_pYYYYMM.
+-- Les requêtes bornées en date ne lisent que les mois concernés ; les mois anciens peuvent
+-- être déplacés vers un tablespace moins coûteux (PartitionMaintenanceScheduler).
+-- Les clés primaires incluent created_at (contrainte PostgreSQL sur les tables partitionnées).
+
+-- ===== transactions =====
+ALTER TABLE transactions RENAME TO transactions_legacy;
+
+CREATE TABLE transactions (
+    amount                  numeric(19,2)               NOT NULL,
+    created_at              timestamp(6) with time zone NOT NULL,
+    id                      uuid                        NOT NULL,
+    original_transaction_id uuid,
+    type                    varchar(64)                 NOT NULL,
+    merchant_id             uuid,
+    agent_id                uuid,
+    client_id               uuid
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- ===== ledger_entries =====
+ALTER TABLE ledger_entries RENAME TO ledger_entries_legacy;
+
+CREATE TABLE ledger_entries (
+    amount         numeric(19,2)               NOT NULL,
+    created_at     timestamp(6) with time zone NOT NULL,
+    entry_type     varchar(16)                 NOT NULL,
+    id             uuid                        NOT NULL,
+    transaction_id uuid                        NOT NULL,
+    account_type   varchar(32)                 NOT NULL,
+    owner_ref      varchar(128)                NOT NULL
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE ledger_entries_default PARTITION OF ledger_entries DEFAULT;
+
+-- ===== partitions mensuelles : de l'historique le plus ancien à M+2 =====
+DO $$
+DECLARE
+    m date := date_trunc('month', LEAST(
+        COALESCE((SELECT MIN(created_at AT TIME ZONE 'UTC') FROM transactions_legacy), now() AT TIME ZONE 'UTC'),
+        COALESCE((SELECT MIN(created_at AT TIME ZONE 'UTC') FROM ledger_entries_legacy), now() AT TIME ZONE 'UTC'),
+        now() AT TIME ZONE 'UTC'))::date;
+    last_month date := (date_trunc('month', now() AT TIME ZONE 'UTC') + interval '2 months')::date;
+    tbl text;
+BEGIN
+    WHILE m <= last_month LOOP
+        FOREACH tbl IN ARRAY ARRAY['transactions', 'ledger_entries'] LOOP
+            EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                tbl || '_p' || to_char(m, 'YYYYMM'),
+                tbl,
+                m::text || ' 00:00:00+00',
+                (m + interval '1 month')::date::text || ' 00:00:00+00');
+        END LOOP;
+        m := (m + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO transactions (amount, created_at, id, original_transaction_id, type, merchant_id, agent_id, client_id)
+SELECT amount, created_at, id, original_transaction_id, type, merchant_id, agent_id, client_id
+FROM transactions_legacy;
+
+INSERT INTO ledger_entries (amount, created_at, entry_type, id, transaction_id, account_type, owner_ref)
+SELECT le.amount, COALESCE(le.created_at, t.created_at, now()), le.entry_type, le.id, le.transaction_id, le.account_type, le.owner_ref
+FROM ledger_entries_legacy le
+LEFT JOIN transactions_legacy t ON t.id = le.transaction_id;
+
+-- Unicité "une seule reversal par transaction d'origine" : un index unique partiel ne peut plus
+-- la garantir entre partitions, elle passe par une table dédiée (non partitionnée).
+CREATE TABLE IF NOT EXISTS transaction_reversals (
+    original_transaction_id uuid PRIMARY KEY,
+    reversal_transaction_id uuid NOT NULL
+);
+
+INSERT INTO transaction_reversals (original_transaction_id, reversal_transaction_id)
+SELECT original_transaction_id, id
+FROM transactions_legacy
+WHERE type = 'REVERSAL' AND original_transaction_id IS NOT NULL
+ON CONFLICT (original_transaction_id) DO NOTHING;
+
+DROP TABLE transactions_legacy;
+DROP TABLE ledger_entries_legacy;
+
+-- ===== contraintes et index (propagés à chaque partition) =====
+ALTER TABLE transactions ADD CONSTRAINT transactions_pkey PRIMARY KEY (id, created_at);
+CREATE INDEX IF NOT EXISTS idx_transactions_created_at ON transactions (created_at);
+CREATE INDEX IF NOT EXISTS idx_transactions_original_tx ON transactions (original_transaction_id);
+CREATE INDEX IF NOT EXISTS idx_transactions_created_id_desc ON transactions (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_transactions_merchant ON transactions (merchant_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_transactions_agent ON transactions (agent_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_transactions_client ON transactions (client_id, created_at, id);
+
+ALTER TABLE ledger_entries ADD CONSTRAINT ledger_entries_pkey PRIMARY KEY (id, created_at);
+CREATE INDEX IF NOT EXISTS idx_ledger_account ON ledger_entries (account_type, owner_ref);
+CREATE INDEX IF NOT EXISTS idx_ledger_created_at ON ledger_entries (created_at);
+CREATE INDEX IF NOT EXISTS idx_ledger_tx ON ledger_entries (transaction_id);
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_tx_account_type ON ledger_entries (transaction_id, account_type);
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_client_owner_tx ON ledger_entries (account_type, owner_ref, transaction_id);
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_agent_owner_tx ON ledger_entries (owner_ref, account_type, transaction_id);
+CREATE INDEX IF NOT EXISTS idx_ledger_tx_account_owner_entry_type ON ledger_entries (transaction_id, account_type, owner_ref, entry_type);
@@ -0,0 +1,23 @@
+-- Curseurs (created_at, id) du contrôle de cohérence du ledger (LedgerConsistencyScheduler) :
+-- INCREMENTAL suit les nouvelles écritures, FULL_SWEEP parcourt tout l'historique en tâche de fond
+-- et reprend là où il s'est arrêté après un redémarrage.
+
+CREATE TABLE IF NOT EXISTS ledger_consistency_checkpoints (
+    name              varchar(32)                 PRIMARY KEY,
+    cursor_created_at timestamp(6) with time zone NOT NULL,
+    cursor_entry_id   uuid                        NOT NULL,
+    updated_at        timestamp(6) with time zone NOT NULL
+);
+
+-- L'historique existant est couvert par le balayage complet : l'incrémental part de la dernière écriture.
+INSERT INTO ledger_consistency_checkpoints (name, cursor_created_at, cursor_entry_id, updated_at)
+VALUES
+    ('INCREMENTAL',
+     COALESCE((SELECT MAX(created_at) FROM ledger_entries), now()),
+     '00000000-0000-0000-0000-000000000000',
+     now()),
+    ('FULL_SWEEP',
+     '1970-01-01 00:00:00+00',
+     '00000000-0000-0000-0000-000000000000',
+     now())
+ON CONFLICT (name) DO NOTHING;
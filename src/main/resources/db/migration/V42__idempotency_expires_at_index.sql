@@ -0,0 +1,3 @@
+-- Purge par lots des clés expirées (DataRetentionScheduler) : parcours ordonné par expires_at.
+CREATE INDEX IF NOT EXISTS idx_idempotency_records_expires_at
+    ON idempotency_records (expires_at, idempotency_key);
@@ -0,0 +1,26 @@
+-- Store d'idempotence alternatif (kori.idempotency.store=unlogged) : même schéma qu'idempotency_records,
+-- partitions UNLOGGED (aucun WAL, non répliquées, vidées après un crash) réparties par hash de la clé.
+
+CREATE TABLE IF NOT EXISTS idempotency_records_unlogged (
+    idempotency_key varchar(128)                NOT NULL,
+    created_at      timestamp(6) with time zone,
+    expires_at      timestamp(6) with time zone,
+    request_hash    varchar(64)                 NOT NULL DEFAULT '',
+    status          varchar(16)                 NOT NULL DEFAULT 'COMPLETED',
+    result_type     varchar(256)                NOT NULL,
+    result_json     text,
+    PRIMARY KEY (idempotency_key)
+) PARTITION BY HASH (idempotency_key);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format(
+            'CREATE UNLOGGED TABLE IF NOT EXISTS %I PARTITION OF idempotency_records_unlogged FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+            'idempotency_records_unlogged_p' || i,
+            i);
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_records_unlogged_expires_at
+    ON idempotency_records_unlogged (expires_at, idempotency_key);
@@ -0,0 +1,91 @@
+-- Posting en un seul aller-retour (kori.ledger.posting=function) : soldes, débit gardé, transaction,
+-- écritures et compteurs de dépenses, avec les mêmes écritures et le même ordre de verrouillage que
+-- JpaLedgerAdapter.appendGuarded. Les montants (frais, commissions) et les shards restent calculés côté Java.
+-- Fonction versionnée : une évolution de signature ou de sémantique crée kori_post_guarded_v2,
+-- l'application appelle la version qu'elle connaît (déploiements progressifs sans rupture).
+--
+-- Retourne le nouveau solde du compte gardé, ou NULL si le solde est insuffisant : l'appelant lève
+-- l'erreur métier et la transaction est annulée (les deltas déjà appliqués avec elle).
+
+CREATE OR REPLACE FUNCTION kori_post_guarded_v1(
+    p_transaction_id uuid,
+    p_type           varchar,
+    p_amount         numeric,
+    p_created_at     timestamptz,
+    p_guarded_type   varchar,
+    p_guarded_owner  varchar,
+    p_entry_ids      uuid[],
+    p_account_types  varchar[],
+    p_owner_refs     varchar[],
+    p_entry_types    varchar[],
+    p_amounts        numeric[],
+    p_shards         smallint[]
+) RETURNS numeric
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    uuid_re   constant text := '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$';
+    d         record;
+    v_balance numeric;
+    v_now     timestamptz := clock_timestamp();
+BEGIN
+    -- Deltas agrégés par (compte, shard), dans l'ordre des clés du chemin Java (collation C)
+    FOR d IN
+        SELECT u.account_type, u.owner_ref, u.shard,
+               SUM(CASE WHEN u.entry_type = 'CREDIT' THEN u.amount ELSE -u.amount END) AS delta
+        FROM unnest(p_account_types, p_owner_refs, p_shards, p_entry_types, p_amounts)
+             AS u(account_type, owner_ref, shard, entry_type, amount)
+        GROUP BY u.account_type, u.owner_ref, u.shard
+        ORDER BY (u.account_type || '|' || u.owner_ref || '|' || u.shard) COLLATE "C"
+    LOOP
+        IF d.account_type = p_guarded_type AND d.owner_ref = p_guarded_owner AND d.shard = 0 THEN
+            UPDATE account_balances
+            SET balance = balance + d.delta, updated_at = now()
+            WHERE account_type = d.account_type AND owner_ref = d.owner_ref AND shard = 0
+              AND balance + d.delta >= 0
+            RETURNING balance INTO v_balance;
+            IF NOT FOUND THEN
+                RETURN NULL;
+            END IF;
+        ELSE
+            INSERT INTO account_balances (account_type, owner_ref, shard, balance, updated_at)
+            VALUES (d.account_type, d.owner_ref, d.shard, d.delta, now())
+            ON CONFLICT (account_type, owner_ref, shard) DO UPDATE
+                SET balance = account_balances.balance + EXCLUDED.balance,
+                    updated_at = EXCLUDED.updated_at;
+        END IF;
+    END LOOP;
+
+    -- Contreparties : dernière écriture MERCHANT / AGENT_WALLET / CLIENT dont le titulaire est un uuid
+    INSERT INTO transactions (id, type, amount, created_at, original_transaction_id, merchant_id, agent_id, client_id)
+    SELECT p_transaction_id, p_type, p_amount, p_created_at, NULL,
+           (array_agg(u.owner_ref ORDER BY u.ord DESC)
+                FILTER (WHERE u.account_type = 'MERCHANT' AND lower(u.owner_ref) ~ uuid_re))[1]::uuid,
+           (array_agg(u.owner_ref ORDER BY u.ord DESC)
+                FILTER (WHERE u.account_type = 'AGENT_WALLET' AND lower(u.owner_ref) ~ uuid_re))[1]::uuid,
+           (array_agg(u.owner_ref ORDER BY u.ord DESC)
+                FILTER (WHERE u.account_type = 'CLIENT' AND lower(u.owner_ref) ~ uuid_re))[1]::uuid
+    FROM unnest(p_account_types, p_owner_refs) WITH ORDINALITY AS u(account_type, owner_ref, ord);
+
+    -- created_at décalé d'une microseconde par rang : ordre d'insertion conservé
+    INSERT INTO ledger_entries (id, transaction_id, account_type, owner_ref, entry_type, amount, created_at)
+    SELECT u.id, p_transaction_id, u.account_type, u.owner_ref, u.entry_type, u.amount,
+           v_now + (u.ord - 1) * interval '1 microsecond'
+    FROM unnest(p_entry_ids, p_account_types, p_owner_refs, p_entry_types, p_amounts)
+         WITH ORDINALITY AS u(id, account_type, owner_ref, entry_type, amount, ord);
+
+    -- Débits des comptes titulaires, par type et jour UTC de la transaction
+    INSERT INTO account_spend_counters (account_type, owner_ref, transaction_type, day, debited, updated_at)
+    SELECT u.account_type, u.owner_ref, p_type, (p_created_at AT TIME ZONE 'UTC')::date, SUM(u.amount), now()
+    FROM unnest(p_account_types, p_owner_refs, p_entry_types, p_amounts)
+         AS u(account_type, owner_ref, entry_type, amount)
+    WHERE u.entry_type = 'DEBIT' AND u.owner_ref <> 'SYSTEM'
+    GROUP BY u.account_type, u.owner_ref
+    ORDER BY (u.account_type || '|' || u.owner_ref) COLLATE "C"
+    ON CONFLICT (account_type, owner_ref, transaction_type, day) DO UPDATE
+        SET debited = account_spend_counters.debited + EXCLUDED.debited,
+            updated_at = EXCLUDED.updated_at;
+
+    RETURN v_balance;
+END
+$$;
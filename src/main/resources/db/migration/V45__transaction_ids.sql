@@ -0,0 +1,43 @@
+-- transactions est partitionnée par mois avec une PK (id, created_at) : l'id seul n'est plus unique
+-- et une lecture par id seul sonde chaque partition. transaction_ids (non partitionnée, même approche
+-- que transaction_reversals) rétablit l'unicité de l'id et donne le created_at qui route vers la partition.
+
+CREATE TABLE IF NOT EXISTS transaction_ids (
+    id         uuid                        PRIMARY KEY,
+    created_at timestamp(6) with time zone NOT NULL
+);
+
+INSERT INTO transaction_ids (id, created_at)
+SELECT id, created_at
+FROM transactions
+ON CONFLICT (id) DO NOTHING;
+
+-- v2 : v1 puis enregistrement de l'id (violation de PK si l'id existe déjà, la transaction est annulée)
+CREATE OR REPLACE FUNCTION kori_post_guarded_v2(
+    p_transaction_id uuid,
+    p_type           varchar,
+    p_amount         numeric,
+    p_created_at     timestamptz,
+    p_guarded_type   varchar,
+    p_guarded_owner  varchar,
+    p_entry_ids      uuid[],
+    p_account_types  varchar[],
+    p_owner_refs     varchar[],
+    p_entry_types    varchar[],
+    p_amounts        numeric[],
+    p_shards         smallint[]
+) RETURNS numeric
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_balance numeric;
+BEGIN
+    v_balance := kori_post_guarded_v1(p_transaction_id, p_type, p_amount, p_created_at,
+                                      p_guarded_type, p_guarded_owner, p_entry_ids, p_account_types,
+                                      p_owner_refs, p_entry_types, p_amounts, p_shards);
+    IF v_balance IS NOT NULL THEN
+        INSERT INTO transaction_ids (id, created_at) VALUES (p_transaction_id, p_created_at);
+    END IF;
+    RETURN v_balance;
+END
+$$;
@@ -0,0 +1,4 @@
+-- Historique d'un compte : parcours des écritures du compte par (created_at DESC, transaction_id),
+-- keyset sur cet index puis jointure vers transactions (JdbcTransactionHistoryReadAdapter).
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_history
+    ON ledger_entries (account_type, owner_ref, created_at DESC, transaction_id);
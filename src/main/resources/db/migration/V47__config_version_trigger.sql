@@ -0,0 +1,27 @@
+-- version des lignes de configuration singleton incrémentée par la base à chaque UPDATE :
+-- les mises à jour hors application (security_config n'a pas d'écriture applicative, scripts d'exploitation)
+-- sont vues par les caches des autres instances comme celles faites par les adapters.
+
+CREATE OR REPLACE FUNCTION kori_bump_config_version() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.version := OLD.version + 1;
+    RETURN NEW;
+END;
+$$;
+
+CREATE OR REPLACE TRIGGER trg_fee_config_version
+    BEFORE UPDATE ON fee_config
+    FOR EACH ROW EXECUTE FUNCTION kori_bump_config_version();
+
+CREATE OR REPLACE TRIGGER trg_platform_config_version
+    BEFORE UPDATE ON platform_config
+    FOR EACH ROW EXECUTE FUNCTION kori_bump_config_version();
+
+CREATE OR REPLACE TRIGGER trg_commission_config_version
+    BEFORE UPDATE ON commission_config
+    FOR EACH ROW EXECUTE FUNCTION kori_bump_config_version();
+
+CREATE OR REPLACE TRIGGER trg_security_config_version
+    BEFORE UPDATE ON security_config
+    FOR EACH ROW EXECUTE FUNCTION kori_bump_config_version();
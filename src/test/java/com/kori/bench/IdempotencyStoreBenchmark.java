@@ -0,0 +1,142 @@
+package com.kori.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kori.adapters.out.jpa.adapter.JpaIdempotencyAdapter;
+import com.kori.adapters.out.memory.InMemoryIdempotencyAdapter;
+import com.kori.application.idempotency.IdempotencyExecutor;
+import com.kori.application.port.out.IdempotencyPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Débit et volume de WAL d'un claim + complete ({@link IdempotencyExecutor}, une transaction par opération,
+ * clés neuves) pour chaque store de kori.idempotency.store. Deux tours par configuration, le second est mesuré.
+ * Exclu des tests par défaut (suffixe Benchmark), à lancer explicitement :
+ * <pre>
+ * mvn -B test -Dtest=IdempotencyStoreBenchmark -Dbench.ops=2000
+ * </pre>
+ * PG17 local, 1 vCPU : environ 850 octets de WAL par opération pour postgres, 38 pour unlogged, 0 en mémoire ;
+ * le débit des deux stores PostgreSQL reste borné par les allers-retours et varie d'un run à l'autre.
+ */
+@SpringBootTest(properties = {
+        "kori.partitioning.initial-delay-ms=600000",
+        "kori.retention.purge.initial-delay-ms=600000",
+        "kori.ledger.consistency-check.initial-delay-ms=600000",
+        "kori.ledger.consistency-check.full-sweep.initial-delay-ms=600000",
+        "kori.ledger.balance-projection.initial-delay-ms=600000"
+})
+class IdempotencyStoreBenchmark {
+
+    private static final int OPS = Integer.getInteger("bench.ops", 2000);
+    private static final List<String> STORES = List.of("postgres", "unlogged", "memory");
+    private static final int[] THREADS = {1, 8};
+
+    private record Round(double opsPerSecond, double walBytesPerOp) {
+    }
+
+    @Autowired
+    ApplicationContext context;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private final String run = "bench-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM " + JpaIdempotencyAdapter.LOGGED_TABLE + " WHERE idempotency_key LIKE ?", run + "-%");
+        jdbc.update("DELETE FROM " + JpaIdempotencyAdapter.UNLOGGED_TABLE + " WHERE idempotency_key LIKE ?", run + "-%");
+    }
+
+    @Test
+    void claimAndComplete() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Map<String, Round> measured = new HashMap<>();
+
+        System.out.println("store      threads   ops/s    WAL bytes per op");
+        for (String store : STORES) {
+            IdempotencyExecutor executor = new IdempotencyExecutor(store(store));
+            for (int threads : THREADS) {
+                round(executor, tx, store + "-" + threads + "-warmup", threads);
+                Round round = round(executor, tx, store + "-" + threads, threads);
+                measured.put(store + "/" + threads, round);
+                System.out.printf("%-10s %-9d %-8.0f %.0f%n", store, threads, round.opsPerSecond(), round.walBytesPerOp());
+            }
+        }
+
+        for (int threads : THREADS) {
+            assertTrue(measured.get("unlogged/" + threads).walBytesPerOp() < measured.get("postgres/" + threads).walBytesPerOp(),
+                    "unlogged store should write less WAL than postgres");
+            assertTrue(measured.get("memory/" + threads).opsPerSecond() > measured.get("postgres/" + threads).opsPerSecond(),
+                    "memory store should be faster than postgres");
+        }
+    }
+
+    /** Adapter construit comme IdempotencyStoreConfig, sans cache des résultats (clés toutes neuves). */
+    private IdempotencyPort store(String store) {
+        return JpaIdempotencyAdapter.tableFor(store)
+                .<IdempotencyPort>map(table -> {
+                    var adapter = new JpaIdempotencyAdapter(objectMapper, table, Duration.ofHours(24), false, Duration.ZERO, 1);
+                    // EntityManager (@PersistenceContext) injecté comme pour le bean
+                    context.getAutowireCapableBeanFactory().autowireBean(adapter);
+                    return adapter;
+                })
+                .orElseGet(() -> new InMemoryIdempotencyAdapter(Duration.ofHours(24)));
+    }
+
+    private Round round(IdempotencyExecutor executor, TransactionTemplate tx, String prefix, int threads) throws Exception {
+        int perThread = OPS / threads;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long walBefore = walLsn();
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String threadPrefix = run + "-" + prefix + "-" + t + "-";
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        String key = threadPrefix + i;
+                        tx.execute(status -> executor.execute(key, "hash-" + key, String.class, () -> "ok"));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long walBytes = walLsn() - walBefore;
+            int ops = perThread * threads;
+            return new Round(ops / seconds, walBytes / (double) ops);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long walLsn() {
+        return jdbc.queryForObject("SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint", Long.class);
+    }
+}
@@ -0,0 +1,217 @@
+package com.kori.bench;
+
+import com.kori.application.command.PayByCardCommand;
+import com.kori.application.exception.InsufficientFundsException;
+import com.kori.application.port.in.PayByCardUseCase;
+import com.kori.application.port.out.PinHasherPort;
+import com.kori.application.security.ActorContext;
+import com.kori.application.security.ActorType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Jeu de données des benchmarks PayByCard : marchands, terminaux, clients et cartes dédiés,
+ * insérés en SQL puis supprimés (avec tout ce que les paiements ont écrit depuis le début) par {@link #cleanUp()}.
+ * Les soldes SYSTEM sont restaurés à l'identique.
+ */
+final class PayByCardBenchmarkFixture {
+
+    static final String PIN = "1234";
+    static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000");
+
+    record LoadResult(int payments, long millis, int ok, int insufficient, int failed,
+                      double walSyncsPerPayment, double commitsPerPayment) {
+
+        double tps() {
+            return payments * 1000.0 / millis;
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final int merchants;
+    private final int clients;
+    private final String run = UUID.randomUUID().toString().substring(0, 8);
+    private final Instant startedAt = Instant.now();
+    private final List<String> clientIds = new ArrayList<>();
+    private List<Map<String, Object>> systemBalances = List.of();
+
+    PayByCardBenchmarkFixture(JdbcTemplate jdbc, int merchants, int clients) {
+        this.jdbc = jdbc;
+        this.merchants = merchants;
+        this.clients = clients;
+    }
+
+    void setUp(PinHasherPort pinHasher) {
+        systemBalances = jdbc.queryForList(
+                "SELECT account_type, shard, balance FROM account_balances WHERE owner_ref = 'SYSTEM'");
+        String hashedPin = pinHasher.hash(PIN).value();
+        for (int m = 0; m < merchants; m++) {
+            UUID merchantId = UUID.randomUUID();
+            jdbc.update("INSERT INTO merchants(id, code, status, created_at) VALUES (?, ?, 'ACTIVE', now())",
+                    merchantId, "M-99" + String.format("%04d", m));
+            jdbc.update("INSERT INTO terminals(id, terminal_uid, merchant_id, status, created_at) VALUES (?, ?, ?, 'ACTIVE', now())",
+                    UUID.randomUUID(), terminalUid(m), merchantId);
+            jdbc.update("INSERT INTO account_profiles(account_type, owner_ref, status, created_at) VALUES ('MERCHANT', ?, 'ACTIVE', now())",
+                    merchantId.toString());
+        }
+        for (int c = 0; c < clients; c++) {
+            UUID clientId = UUID.randomUUID();
+            clientIds.add(clientId.toString());
+            jdbc.update("INSERT INTO clients(id, code, phone_number, status, created_at) VALUES (?, ?, ?, 'ACTIVE', now())",
+                    clientId, "C-99" + String.format("%04d", c), "+2699" + String.format("%06d", c));
+            jdbc.update("""
+                    INSERT INTO cards(id, client_id, card_uid, hashed_pin, status, failed_pin_attempts, created_at)
+                    VALUES (?, ?, ?, ?, 'ACTIVE', 0, now())
+                    """, UUID.randomUUID(), clientId, cardUid(c), hashedPin);
+            jdbc.update("INSERT INTO account_profiles(account_type, owner_ref, status, created_at) VALUES ('CLIENT', ?, 'ACTIVE', now())",
+                    clientId.toString());
+            jdbc.update("""
+                    INSERT INTO account_balances(account_type, owner_ref, shard, balance, updated_at)
+                    VALUES ('CLIENT', ?, 0, ?, now())
+                    """, clientId.toString(), INITIAL_BALANCE);
+        }
+    }
+
+    PayByCardCommand command(String key, int client, BigDecimal amount) {
+        String idempotencyKey = run + "-" + key;
+        return new PayByCardCommand(
+                idempotencyKey,
+                "hash-" + idempotencyKey + "-" + amount,
+                new ActorContext(ActorType.TERMINAL, terminalUid(client % merchants), Map.of()),
+                cardUid(client),
+                PIN,
+                amount);
+    }
+
+    /** Un paiement par carte (cache de vérification du PIN, JIT), hors mesure. */
+    void warmUp(PayByCardUseCase payByCard, ExecutorService pool) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            futures.add(pool.submit(() -> payByCard.execute(command("warmup-" + client, client, BigDecimal.ONE))));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+    }
+
+    /**
+     * Un thread par client, perClient paiements chacun ; un sur 25 dépasse le solde (refusé).
+     * Syncs WAL et commits comptés sur toute la base pendant la mesure.
+     */
+    LoadResult load(PayByCardUseCase payByCard, int perClient) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            warmUp(payByCard, pool);
+            AtomicInteger ok = new AtomicInteger();
+            AtomicInteger insufficient = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            long[] before = walAndCommits();
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perClient; i++) {
+                        BigDecimal amount = i % 25 == 24 ? INITIAL_BALANCE.multiply(BigDecimal.TEN) : BigDecimal.TEN;
+                        try {
+                            payByCard.execute(command(client + "-" + i, client, amount));
+                            ok.incrementAndGet();
+                        } catch (InsufficientFundsException e) {
+                            insufficient.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            long[] after = walAndCommits();
+            int payments = clients * perClient;
+            return new LoadResult(payments, millis, ok.get(), insufficient.get(), failed.get(),
+                    (after[0] - before[0]) / (double) payments, (after[1] - before[1]) / (double) payments);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Transactions dont les écritures ne s'équilibrent pas, depuis le début du benchmark. */
+    int unbalancedTransactions() {
+        return jdbc.queryForObject("""
+                SELECT count(*) FROM (
+                    SELECT transaction_id FROM ledger_entries WHERE created_at >= ?
+                    GROUP BY transaction_id
+                    HAVING sum(CASE WHEN entry_type = 'DEBIT' THEN -amount ELSE amount END) <> 0
+                ) x
+                """, Integer.class, Timestamp.from(startedAt));
+    }
+
+    /** Clients dont le solde projeté diffère du solde initial moins leurs écritures. */
+    int clientBalanceDrift() {
+        return jdbc.queryForObject("""
+                SELECT count(*) FROM account_balances b
+                WHERE b.account_type = 'CLIENT' AND b.owner_ref = ANY(?)
+                  AND b.balance <> ? - coalesce((
+                      SELECT sum(CASE WHEN entry_type = 'DEBIT' THEN amount ELSE -amount END)
+                      FROM ledger_entries l
+                      WHERE l.account_type = 'CLIENT' AND l.owner_ref = b.owner_ref), 0)
+                """, Integer.class, clientIds.toArray(String[]::new), INITIAL_BALANCE);
+    }
+
+    void cleanUp() {
+        Timestamp since = Timestamp.from(startedAt);
+        jdbc.update("DELETE FROM ledger_entries WHERE created_at >= ?", since);
+        jdbc.update("DELETE FROM transaction_context WHERE created_at >= ?", since);
+        jdbc.update("DELETE FROM transaction_ids WHERE created_at >= ?", since);
+        jdbc.update("DELETE FROM transactions WHERE created_at >= ?", since);
+        jdbc.update("DELETE FROM idempotency_records WHERE idempotency_key LIKE ?", run + "-%");
+        jdbc.update("DELETE FROM audit_outbox WHERE occurred_at >= ?", since);
+        jdbc.update("DELETE FROM audit_events WHERE occurred_at >= ?", since);
+        jdbc.update("DELETE FROM terminal_activity WHERE terminal_uid LIKE 'T-BENCH-%'");
+        jdbc.update("DELETE FROM account_spend_counters WHERE account_type = 'CLIENT' AND owner_ref = ANY(?)",
+                (Object) clientIds.toArray(String[]::new));
+        jdbc.update("DELETE FROM account_balances WHERE account_type IN ('CLIENT', 'MERCHANT') AND updated_at >= ?", since);
+        jdbc.update("DELETE FROM account_profiles WHERE created_at >= ?", since);
+        jdbc.update("DELETE FROM cards WHERE card_uid LIKE 'BENCHCARD%'");
+        jdbc.update("DELETE FROM terminals WHERE terminal_uid LIKE 'T-BENCH-%'");
+        jdbc.update("DELETE FROM clients WHERE code LIKE 'C-99%'");
+        jdbc.update("DELETE FROM merchants WHERE code LIKE 'M-99%'");
+        jdbc.update("DELETE FROM account_balances WHERE owner_ref = 'SYSTEM'");
+        for (Map<String, Object> b : systemBalances) {
+            jdbc.update("""
+                    INSERT INTO account_balances(account_type, owner_ref, shard, balance, updated_at)
+                    VALUES (?, 'SYSTEM', ?, ?, now())
+                    """, b.get("account_type"), b.get("shard"), b.get("balance"));
+        }
+    }
+
+    private long[] walAndCommits() {
+        Map<String, Object> row = jdbc.queryForMap("""
+                SELECT (SELECT wal_sync FROM pg_stat_wal) AS wal_syncs,
+                       (SELECT xact_commit FROM pg_stat_database WHERE datname = current_database()) AS commits
+                """);
+        return new long[]{((Number) row.get("wal_syncs")).longValue(), ((Number) row.get("commits")).longValue()};
+    }
+
+    private static String terminalUid(int merchant) {
+        return "T-BENCH-" + merchant;
+    }
+
+    private static String cardUid(int client) {
+        return "BENCHCARD" + client;
+    }
+}
@@ -0,0 +1,160 @@
+package com.kori.bench;
+
+import com.kori.application.port.in.PayByCardUseCase;
+import com.kori.application.port.out.PinHasherPort;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.NestedTestConfiguration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Débit de PayByCard sans puis avec commit groupé, quand la latence du commit domine (réplication synchrone
+ * distante, stockage réseau) : un trigger différé ajoute bench.commit-latency-ms à chaque commit, verrous tenus.
+ * 64 clients en parallèle, pool de connexions par défaut (10). Le commit groupé ne gagne que si le débit
+ * d'une transaction par paiement est borné par pool / latence et non par le CPU.
+ * Exclu des tests par défaut (suffixe Benchmark), à lancer explicitement :
+ * <pre>
+ * mvn -B test -Dtest=PayByCardGroupCommitBenchmark -Dbench.commit-latency-ms=100 -Dbench.per-client=20
+ * </pre>
+ * PG17 local, 1 vCPU, 1280 paiements : à 100 ms, 102 TPS groupé contre 44 (0,08 sync WAL par paiement contre 1,07) ;
+ * à 20 ms, 112 contre 103, le CPU saturant déjà sans commit groupé.
+ */
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+class PayByCardGroupCommitBenchmark {
+
+    private static final int MERCHANTS = 8;
+    private static final int CLIENTS = 64;
+    private static final int PER_CLIENT = Integer.getInteger("bench.per-client", 20);
+    private static final int COMMIT_LATENCY_MS = Integer.getInteger("bench.commit-latency-ms", 100);
+
+    private static final Map<String, PayByCardBenchmarkFixture.LoadResult> results = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void compare() {
+        PayByCardBenchmarkFixture.LoadResult single = results.get("single-transaction");
+        PayByCardBenchmarkFixture.LoadResult grouped = results.get("group-commit");
+        if (single == null || grouped == null) {
+            return;
+        }
+        System.out.printf("PayByCard commit latency %d ms: group commit %.0f TPS vs %.0f TPS (x%.2f)%n",
+                COMMIT_LATENCY_MS, grouped.tps(), single.tps(), grouped.tps() / single.tps());
+        if (COMMIT_LATENCY_MS > 0) {
+            assertTrue(grouped.tps() > single.tps(), "group commit should beat one commit per payment");
+        }
+    }
+
+    abstract static class Scenario {
+
+        @Autowired
+        PayByCardUseCase payByCard;
+
+        @Autowired
+        PinHasherPort pinHasher;
+
+        @Autowired
+        JdbcTemplate jdbc;
+
+        abstract String name();
+
+        @Test
+        void payByCard() throws Exception {
+            PayByCardBenchmarkFixture fixture = new PayByCardBenchmarkFixture(jdbc, MERCHANTS, CLIENTS);
+            try {
+                fixture.setUp(pinHasher);
+                addCommitLatency();
+                PayByCardBenchmarkFixture.LoadResult result = fixture.load(payByCard, PER_CLIENT);
+                System.out.printf("PayByCard %s: %d payments in %d ms, %.0f TPS, %.3f WAL syncs and %.3f commits per payment%n",
+                        name(), result.payments(), result.millis(), result.tps(),
+                        result.walSyncsPerPayment(), result.commitsPerPayment());
+
+                assertEquals(0, result.failed());
+                assertEquals(result.payments(), result.ok() + result.insufficient());
+                assertEquals(0, fixture.unbalancedTransactions());
+                assertEquals(0, fixture.clientBalanceDrift());
+                results.put(name(), result);
+            } finally {
+                removeCommitLatency();
+                fixture.cleanUp();
+            }
+        }
+
+        /** Une attente par transaction écrivant un paiement, au moment du commit (trigger de contrainte différé). */
+        private void addCommitLatency() {
+            if (COMMIT_LATENCY_MS <= 0) {
+                return;
+            }
+            jdbc.execute("""
+                    CREATE OR REPLACE FUNCTION bench_commit_latency() RETURNS trigger LANGUAGE plpgsql AS $$
+                    BEGIN
+                        IF current_setting('bench.commit_latency_done', true) IS DISTINCT FROM 'on' THEN
+                            PERFORM set_config('bench.commit_latency_done', 'on', true);
+                            PERFORM pg_sleep(%d / 1000.0);
+                        END IF;
+                        RETURN NULL;
+                    END $$
+                    """.formatted(COMMIT_LATENCY_MS));
+            jdbc.execute("""
+                    CREATE CONSTRAINT TRIGGER bench_commit_latency AFTER INSERT ON transaction_ids
+                    DEFERRABLE INITIALLY DEFERRED FOR EACH ROW EXECUTE FUNCTION bench_commit_latency()
+                    """);
+        }
+
+        private void removeCommitLatency() {
+            jdbc.execute("DROP TRIGGER IF EXISTS bench_commit_latency ON transaction_ids");
+            jdbc.execute("DROP FUNCTION IF EXISTS bench_commit_latency()");
+        }
+    }
+
+    @Nested
+    @Order(1)
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest(properties = {
+            "kori.payments.group-commit.enabled=false",
+            "kori.partitioning.initial-delay-ms=600000",
+            "kori.retention.purge.initial-delay-ms=600000",
+            "kori.ledger.consistency-check.initial-delay-ms=600000",
+            "kori.ledger.consistency-check.full-sweep.initial-delay-ms=600000",
+            "kori.ledger.balance-projection.initial-delay-ms=600000",
+            "kori.security.pin.verification-cache.enabled=true"
+    })
+    class SingleTransaction extends Scenario {
+
+        @Override
+        String name() {
+            return "single-transaction";
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest(properties = {
+            "kori.payments.group-commit.enabled=true",
+            "kori.payments.group-commit.join-timeout-ms=30000",
+            "kori.partitioning.initial-delay-ms=600000",
+            "kori.retention.purge.initial-delay-ms=600000",
+            "kori.ledger.consistency-check.initial-delay-ms=600000",
+            "kori.ledger.consistency-check.full-sweep.initial-delay-ms=600000",
+            "kori.ledger.balance-projection.initial-delay-ms=600000",
+            "kori.security.pin.verification-cache.enabled=true"
+    })
+    class GroupCommit extends Scenario {
+
+        @Override
+        String name() {
+            return "group-commit";
+        }
+    }
+}